@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# Builds the benchmark jar and runs JMH with the GC profiler, writing JSON results
+# to results/jmh-<commit>.json. Extra arguments are passed to JMH, e.g. a benchmark
+# regex or "-p rows=10000000".
+set -euo pipefail
+
+cd "$(dirname "$0")"
+mvn -B -q package -DskipTests
+
+mkdir -p results
+revision=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/jmh-${revision}.json" "$@"
+echo "Results written to results/jmh-${revision}.json"
@@ -0,0 +1,91 @@
+package com.rewardSystem.benchmarks;
+
+import com.rewardSystem.datagen.DatasetSpec;
+import com.rewardSystem.datagen.TransactionDataGenerator;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.repository.TransactionsRepository;
+import com.rewardSystem.service.RewardServiceImpl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Deterministic in-memory datasets and wiring helpers shared by the benchmarks.
+ */
+public final class BenchmarkDatasets {
+
+    /**
+     * How transactions are spread over customers.
+     */
+    public enum Distribution {
+        UNIFORM,
+        SKEWED
+    }
+
+    /**
+     * Average transactions per customer used to derive the customer count from the row count.
+     */
+    public static final int ROWS_PER_CUSTOMER = 50;
+
+    private BenchmarkDatasets() {
+    }
+
+    /**
+     * Builds {@code rows} transactions over {@code customers} customers with
+     * {@link TransactionDataGenerator}, dated across the last four months so roughly a quarter of
+     * them fall outside the reward window.
+     */
+    public static List<CustomerTranscation> transactions(int rows, int customers, Distribution distribution, long seed) {
+        double zipfExponent = distribution == Distribution.SKEWED ? 1.0 : 0.0;
+        return new TransactionDataGenerator(DatasetSpec.recent(rows, customers, zipfExponent, 120, seed)).toList();
+    }
+
+    /**
+     * A {@link RewardServiceImpl} whose repository serves {@code transactions} from memory.
+     */
+    public static RewardServiceImpl rewardService(List<CustomerTranscation> transactions) {
+        List<TransactionView> views = views(transactions);
+        TransactionsRepository repository = (TransactionsRepository) Proxy.newProxyInstance(
+                TransactionsRepository.class.getClassLoader(),
+                new Class<?>[]{TransactionsRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findViewsSince")) {
+                        return views;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        // No Customer rows: names stay null, the lookup itself is not part of the measured work
+        CustomerRepository customers = (CustomerRepository) Proxy.newProxyInstance(
+                CustomerRepository.class.getClassLoader(),
+                new Class<?>[]{CustomerRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("findWith")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        RewardServiceImpl service = new RewardServiceImpl();
+        inject(service, "transactionsRepository", repository);
+        inject(service, "customerRepository", customers);
+        return service;
+    }
+
+    public static List<TransactionView> views(List<CustomerTranscation> transactions) {
+        return transactions.stream().map(TransactionView::of).toList();
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName, e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.rewardSystem.repository;
+
+import com.rewardSystem.datagen.DatasetSpec;
+import com.rewardSystem.datagen.JdbcTransactionSink;
+import com.rewardSystem.datagen.TransactionDataGenerator;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.TransactionView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap held while the reward scan's result is in use, for each way of loading it from H2:
+ * <ul>
+ *     <li>{@code MANAGED_ENTITIES} - the previous {@code findAll()}: managed entities, each with a
+ *     dirty-checking snapshot in the persistence context</li>
+ *     <li>{@code READ_ONLY_ENTITIES} - the same query with the read-only hint, so no snapshots</li>
+ *     <li>{@code PROJECTION} - {@link TransactionsRepository#findViewsSince}'s constructor expression
+ *     into {@link TransactionView} records, with flush mode off</li>
+ * </ul>
+ * The {@code retainedMb} counter is the heap still reachable after a full GC while the entity manager
+ * is open, i.e. what a request holds for the rest of {@code findAllRewards()}; JMH adds it up over
+ * the measurement iterations, so divide by their count. Run with
+ * {@code -p rows=10000000 -jvmArgsAppend -Xmx12g} for the 10M-row figures.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TransactionMaterializationBenchmark {
+
+    private static final String ENTITY_QUERY =
+            "select t from CustomerTranscation t where t.date >= :from";
+    private static final String PROJECTION_QUERY =
+            "select new com.rewardSystem.entity.TransactionView(t.customerId, t.amount, t.date) "
+                    + "from CustomerTranscation t where t.date >= :from";
+
+    public enum Strategy {
+        MANAGED_ENTITIES,
+        READ_ONLY_ENTITIES,
+        PROJECTION
+    }
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"MANAGED_ENTITIES", "READ_ONLY_ENTITIES", "PROJECTION"})
+    private Strategy strategy;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+        public double retainedMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedMb = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:materialization;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.rewardSystem.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Same column names as under Spring Boot, so the JDBC sink can load the table
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        int customers = Math.max(1, rows / 50);
+        new TransactionDataGenerator(DatasetSpec.recent(rows, customers, 1.0, 60, 42))
+                .generate(new JdbcTransactionSink(dataSource.getConnection(), 10_000));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public int load(Retained retained) {
+        long before = usedHeapAfterGc();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<?> result = query(entityManager);
+            retained.retainedMb = (usedHeapAfterGc() - before) / (1024.0 * 1024.0);
+            int size = result.size();
+            entityManager.getTransaction().commit();
+            return size;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private List<?> query(EntityManager entityManager) {
+        LocalDate from = LocalDate.now().minusYears(1);
+        return switch (strategy) {
+            case MANAGED_ENTITIES -> entityManager.createQuery(ENTITY_QUERY, CustomerTranscation.class)
+                    .setParameter("from", from)
+                    .getResultList();
+            case READ_ONLY_ENTITIES -> entityManager.createQuery(ENTITY_QUERY, CustomerTranscation.class)
+                    .setParameter("from", from)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+            case PROJECTION -> entityManager.createQuery(PROJECTION_QUERY, TransactionView.class)
+                    .setParameter("from", from)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setFlushMode(FlushModeType.COMMIT)
+                    .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                    .getResultList();
+        };
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
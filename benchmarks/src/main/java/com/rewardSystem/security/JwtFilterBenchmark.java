@@ -0,0 +1,147 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.UserSavedEvent;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT authentication.
+ * <ul>
+ *     <li>{@code legacyVerifyTwice} - the previous behaviour: key and parser rebuilt and the
+ *     signature checked once for {@code validateToken} and again for {@code getUsernameFromToken}</li>
+ *     <li>{@code parseAndVerify} - a single verification through the shared parser</li>
+ *     <li>{@code filter} - the whole {@link JwtAuthenticationFilter}. {@code LEGACY} tokens carry only
+ *     the subject and go through the {@link UserDetailsService} (an in-memory stub here, a database
+ *     round trip in production); {@code CLAIMS} tokens are authorised from their role and version
+ *     claims against the {@link TokenVersionRegistry}</li>
+ *     <li>{@code revocationCheck} - {@link TokenRevocationList#isRevoked} for a live token with
+ *     100,000 other tokens revoked, the common path of every request</li>
+ * </ul>
+ * {@code verifiedCacheSize=0} disables the verified-token cache, so every call pays for HMAC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET =
+            "benchmarkSecretKeyForJwtTokenProviderThatIsLongEnoughForHs512Signatures0123456789";
+    private static final int REVOKED_TOKENS = 100_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    /**
+     * Which claims the benchmarked token carries.
+     */
+    public enum TokenKind {
+        LEGACY,
+        CLAIMS
+    }
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    @Param({"LEGACY", "CLAIMS"})
+    private TokenKind tokenKind;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private TokenRevocationList revocationList;
+    private String liveJti;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", verifiedCacheSize);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+
+        com.rewardSystem.entity.User entity = new com.rewardSystem.entity.User();
+        entity.setUsername("benchmark-user");
+        entity.setRole(com.rewardSystem.entity.User.UserRole.ROLE_USER);
+        entity.setEnabled(true);
+        entity.setTokenVersion(0L);
+        token = tokenKind == TokenKind.CLAIMS
+                ? tokenProvider.generateToken(entity)
+                : tokenProvider.generateTokenFromUsername("benchmark-user");
+
+        TokenVersionRegistry registry = new TokenVersionRegistry();
+        registry.onUserSaved(UserSavedEvent.of(entity));
+
+        UserDetails user = User.withUsername("benchmark-user").password("{noop}secret").roles("USER").build();
+        UserDetailsService userDetailsService = username -> user;
+        revocationList = new TokenRevocationList();
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            ReflectionTestUtils.invokeMethod(revocationList, "add", UUID.randomUUID().toString(), Long.MAX_VALUE);
+        }
+        liveJti = tokenProvider.parseAndVerify(token).getId();
+
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, registry, revocationList);
+
+        request = new MockHttpServletRequest("GET", "/rewards");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public String legacyVerifyTwice() {
+        SecretKey validateKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Jwts.parser().verifyWith(validateKey).build().parseSignedClaims(token);
+
+        SecretKey subjectKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(subjectKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims parseAndVerify() {
+        return tokenProvider.parseAndVerify(token);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return revocationList.isRevoked(liveJti);
+    }
+
+    @Benchmark
+    public Authentication filter() throws ServletException, IOException {
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,113 @@
+package com.rewardSystem.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link RateLimiter} with four threads calling concurrently.
+ * <ul>
+ *     <li>{@code hotKey} - every thread uses the same principal, so all CAS updates hit one bucket</li>
+ *     <li>{@code distinctKeys} - each call uses one of {@code principals} users, exercising bucket
+ *     creation and eviction when the count exceeds {@code rate-limit.max-keys}</li>
+ *     <li>{@code filter} - the whole {@link RateLimitFilter} including path extraction</li>
+ * </ul>
+ * {@code permitsPerSecond} high enough never to reject measures the admit path; {@code 100} measures
+ * the reject path after the burst. Throughput is aggregated over the threads, so the target of
+ * 100k requests per second corresponds to well under 1 % of a core per call at these scores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"1000000000", "100"})
+    private double permitsPerSecond;
+
+    @Param({"1000", "200000"})
+    private int principals;
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+    private Authentication hotUser;
+    private Authentication[] users;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPath("/v1/api/**");
+        rule.setPermitsPerSecond(permitsPerSecond);
+        rule.setBurst(20);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+
+        rateLimiter = new RateLimiter(properties);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+        hotUser = user("hot");
+        users = new Authentication[principals];
+        for (int i = 0; i < principals; i++) {
+            users[i] = user("user-" + i);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return rateLimiter.acquire("/v1/api/rewards", hotUser, "10.0.0.1");
+    }
+
+    @Benchmark
+    public long distinctKeys(Cursor cursor) {
+        Authentication user = users[cursor.next];
+        cursor.next = (cursor.next + 1) % users.length;
+        return rateLimiter.acquire("/v1/api/rewards", user, "10.0.0.1");
+    }
+
+    @Benchmark
+    public int filter(Cursor cursor) throws ServletException, IOException {
+        SecurityContextHolder.getContext().setAuthentication(users[cursor.next]);
+        cursor.next = (cursor.next + 1) % users.length;
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/rewards");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    private static Authentication user(String username) {
+        return new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
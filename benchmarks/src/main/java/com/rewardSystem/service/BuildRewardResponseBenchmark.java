@@ -0,0 +1,52 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.benchmarks.BenchmarkDatasets;
+import com.rewardSystem.benchmarks.BenchmarkDatasets.Distribution;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.TransactionView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one customer's {@link RewardPoints} from its transactions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildRewardResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int transactionsPerCustomer;
+
+    private RewardServiceImpl rewardService;
+    private List<TransactionView> transactions;
+
+    @Setup
+    public void setUp() {
+        List<CustomerTranscation> rows = BenchmarkDatasets.transactions(transactionsPerCustomer, 1,
+                Distribution.UNIFORM, 42);
+        rewardService = BenchmarkDatasets.rewardService(rows);
+        transactions = BenchmarkDatasets.views(rows);
+    }
+
+    @Benchmark
+    public RewardPoints buildRewardResponse() {
+        return rewardService.buildRewardResponse(1, transactions);
+    }
+}
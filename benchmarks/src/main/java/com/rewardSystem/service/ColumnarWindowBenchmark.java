@@ -0,0 +1,144 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.benchmarks.BenchmarkDatasets;
+import com.rewardSystem.benchmarks.BenchmarkDatasets.Distribution;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap held by the reward window and the time to compute rewards from it, for each way of keeping it
+ * in memory:
+ * <ul>
+ *     <li>{@code ENTITIES} - {@link CustomerTranscation} objects, converted to views on every run as
+ *     the entity path did</li>
+ *     <li>{@code VIEWS} - {@link TransactionView} records fed to the in-memory engine's computation</li>
+ *     <li>{@code COLUMNS} - {@link TransactionColumns} off-heap, scanned by {@link ColumnarRewardEngine}</li>
+ * </ul>
+ * {@code heapMb} is the heap still reachable after a full GC once the window is built, and
+ * {@code offHeapMb} the direct memory it reserved; JMH adds them up over the measurement iterations,
+ * so divide by their count. Run with {@code -p rows=10000000 -jvmArgsAppend -Xmx12g} for the 10M-row
+ * figures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarWindowBenchmark {
+
+    public enum Representation {
+        ENTITIES,
+        VIEWS,
+        COLUMNS
+    }
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"ENTITIES", "VIEWS", "COLUMNS"})
+    private Representation representation;
+
+    private final RewardPipelineMetrics metrics = RewardPipelineMetrics.noop();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private List<CustomerTranscation> entities;
+    private List<TransactionView> views;
+    private ColumnarRewardEngine columnarEngine;
+    private LocalDate windowStart;
+    private double heapMb;
+    private double offHeapMb;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double heapMb;
+        public double offHeapMb;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        windowStart = RewardServiceImpl.rewardWindowStart();
+        long heapBefore = usedHeapAfterGc();
+        long directBefore = directMemoryUsed();
+
+        List<CustomerTranscation> generated = BenchmarkDatasets.transactions(
+                rows, rows / BenchmarkDatasets.ROWS_PER_CUSTOMER, Distribution.UNIFORM, 42);
+        switch (representation) {
+            case ENTITIES -> entities = generated;
+            case VIEWS -> views = BenchmarkDatasets.views(generated);
+            case COLUMNS -> columnarEngine = columnarEngine(generated);
+        }
+        generated = null;
+
+        heapMb = (usedHeapAfterGc() - heapBefore) / (1024.0 * 1024.0);
+        offHeapMb = (directMemoryUsed() - directBefore) / (1024.0 * 1024.0);
+    }
+
+    private ColumnarRewardEngine columnarEngine(List<CustomerTranscation> transactions) throws Exception {
+        // Loaded like ColumnarRewardWindow.reload: only rows inside the window are kept
+        TransactionColumns columns = new TransactionColumns(transactions.size(), (int) windowStart.toEpochDay());
+        for (CustomerTranscation transaction : transactions) {
+            columns.append(transaction.getCustomerId(), TransactionColumns.toCents(transaction.getAmount()),
+                    (int) transaction.getDate().toEpochDay());
+        }
+        ColumnarRewardWindow window = new ColumnarRewardWindow();
+        inject(window, "columns", columns);
+        ColumnarRewardEngine engine = new ColumnarRewardEngine();
+        inject(engine, "window", window);
+        return engine;
+    }
+
+    @Benchmark
+    public List<RewardPoints> computeRewards(Footprint footprint) {
+        footprint.heapMb = heapMb;
+        footprint.offHeapMb = offHeapMb;
+        return switch (representation) {
+            case ENTITIES -> RewardServiceImpl.computeRewards(BenchmarkDatasets.views(entities), windowStart, metrics);
+            case VIEWS -> RewardServiceImpl.computeRewards(views, windowStart, metrics);
+            case COLUMNS -> columnarEngine.computeRewards(windowStart);
+        };
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long directMemoryUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
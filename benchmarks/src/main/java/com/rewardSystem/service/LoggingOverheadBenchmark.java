@@ -0,0 +1,140 @@
+package com.rewardSystem.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.rewardSystem.benchmarks.BenchmarkDatasets;
+import com.rewardSystem.benchmarks.BenchmarkDatasets.Distribution;
+import com.rewardSystem.entity.RewardPoints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RewardServiceImpl#findAllRewards()} throughput under different logging setups. Logback is
+ * configured programmatically so the runs do not depend on {@code logback-spring.xml}:
+ * <ul>
+ *     <li>{@code OFF} - no appender, every statement is disabled</li>
+ *     <li>{@code INFO_SYNC} - the production level, written synchronously to a file</li>
+ *     <li>{@code DEBUG_SYNC} - development level, written synchronously to a file</li>
+ *     <li>{@code DEBUG_ASYNC} - development level behind the same {@link AsyncAppender} settings
+ *     as the {@code prod} profile</li>
+ * </ul>
+ * The hot path only logs a constant number of summary lines per call, so all modes should stay
+ * within noise of {@code OFF} regardless of the row count.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class LoggingOverheadBenchmark {
+
+    /**
+     * Logging setup applied to the {@code com.rewardSystem} logger for a run.
+     */
+    public enum LoggingMode {
+        OFF,
+        INFO_SYNC,
+        DEBUG_SYNC,
+        DEBUG_ASYNC
+    }
+
+    @Param({"OFF", "INFO_SYNC", "DEBUG_SYNC", "DEBUG_ASYNC"})
+    private LoggingMode mode;
+
+    @Param({"100000"})
+    private int rows;
+
+    private RewardServiceImpl rewardService;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        int customers = Math.max(1, rows / BenchmarkDatasets.ROWS_PER_CUSTOMER);
+        rewardService = BenchmarkDatasets.rewardService(
+                BenchmarkDatasets.transactions(rows, customers, Distribution.SKEWED, 42));
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger("com.rewardSystem");
+        logger.setAdditive(false);
+        logger.detachAndStopAllAppenders();
+
+        if (mode == LoggingMode.OFF) {
+            logger.setLevel(Level.OFF);
+            return;
+        }
+
+        logFile = Files.createTempFile("rewards-logging-benchmark", ".log");
+        logger.setLevel(mode == LoggingMode.INFO_SYNC ? Level.INFO : Level.DEBUG);
+        appender = mode == LoggingMode.DEBUG_ASYNC
+                ? asyncAppender(context, fileAppender(context, logFile))
+                : fileAppender(context, logFile);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (appender != null) {
+            appender.stop();
+        }
+        if (logFile != null) {
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    @Benchmark
+    public List<RewardPoints> findAllRewards() {
+        return rewardService.findAllRewards();
+    }
+
+    private static FileAppender<ILoggingEvent> fileAppender(LoggerContext context, Path file) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE");
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        return fileAppender;
+    }
+
+    private static AsyncAppender asyncAppender(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC_FILE");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(delegate);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+}
@@ -0,0 +1,129 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.datagen.DatasetSpec;
+import com.rewardSystem.datagen.JdbcTransactionSink;
+import com.rewardSystem.datagen.TransactionDataGenerator;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.repository.TransactionsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One reward window computed by each {@link RewardEngine} against H2, for a spread of transactions
+ * per customer. {@code rowsPerCustomer} is the statistic {@link RewardEnginePlanner} uses to choose
+ * between the database aggregate and the parallel scan; the in-memory engine is the baseline. Run with
+ * {@code -p rows=10000000 -jvmArgsAppend -Xmx12g} for the 10M-row figures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RewardEngineBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"1", "50"})
+    private int rowsPerCustomer;
+
+    @Param({InMemoryRewardEngine.NAME, DbAggregateRewardEngine.NAME, ParallelPartitionedRewardEngine.NAME})
+    private String engine;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private RewardEngine rewardEngine;
+    private LocalDate windowStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:engines;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.rewardSystem.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        int customers = Math.max(1, rows / rowsPerCustomer);
+        new TransactionDataGenerator(DatasetSpec.recent(rows, customers, 0.0, 90, 42))
+                .generate(new JdbcTransactionSink(dataSource.getConnection(), 10_000));
+
+        TransactionsRepository repository = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(TransactionsRepository.class);
+        rewardEngine = switch (engine) {
+            case InMemoryRewardEngine.NAME -> new InMemoryRewardEngine(repository, RewardPipelineMetrics.noop());
+            case DbAggregateRewardEngine.NAME -> {
+                DbAggregateRewardEngine aggregate = new DbAggregateRewardEngine();
+                inject(aggregate, "transactionsRepository", repository);
+                yield aggregate;
+            }
+            default -> {
+                ParallelPartitionedRewardEngine parallel = new ParallelPartitionedRewardEngine();
+                inject(parallel, "transactionsRepository", repository);
+                inject(parallel, "transactionManager", new JpaTransactionManager(entityManagerFactory));
+                inject(parallel, "threads", 4);
+                inject(parallel, "partitions", 8);
+                parallel.init();
+                yield parallel;
+            }
+        };
+        windowStart = RewardServiceImpl.rewardWindowStart();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (rewardEngine instanceof ParallelPartitionedRewardEngine parallel) {
+            parallel.shutdown();
+        }
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public List<RewardPoints> computeRewards() {
+        return rewardEngine.computeRewards(windowStart);
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName, e);
+        }
+    }
+}
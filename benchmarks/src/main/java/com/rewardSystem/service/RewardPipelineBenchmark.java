@@ -0,0 +1,53 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.benchmarks.BenchmarkDatasets;
+import com.rewardSystem.benchmarks.BenchmarkDatasets.Distribution;
+import com.rewardSystem.entity.RewardPoints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full filter / group / compute pipeline of {@link RewardServiceImpl#findAllRewards()} over an
+ * in-memory repository. The defaults stop at 10^6 rows; larger datasets need a bigger heap, e.g.
+ * {@code -p rows=100000000 -jvmArgsAppend -Xmx32g}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RewardPipelineBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    private RewardServiceImpl rewardService;
+
+    @Setup
+    public void setUp() {
+        int customers = Math.max(1, rows / BenchmarkDatasets.ROWS_PER_CUSTOMER);
+        rewardService = BenchmarkDatasets.rewardService(
+                BenchmarkDatasets.transactions(rows, customers, distribution, 42));
+    }
+
+    @Benchmark
+    public List<RewardPoints> findAllRewards() {
+        return rewardService.findAllRewards();
+    }
+}
@@ -1,13 +1,26 @@
 package com.rewardSystem;
 
+import com.rewardSystem.config.PersistenceRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(PersistenceRuntimeHints.class)
 public class RewardSystemApplication {
 
+	/**
+	 * Startup steps kept for {@code GET /admin/startup-timeline}; a full boot records a few thousand.
+	 */
+	static final int STARTUP_TIMELINE_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(RewardSystemApplication.class, args);
+		SpringApplication application = new SpringApplication(RewardSystemApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_TIMELINE_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,62 @@
+package com.rewardSystem.config;
+
+import com.rewardSystem.RewardSystemApplication;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.util.List;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on, as in the
+ * {@code fast-start} profile.
+ *
+ * The security chain, the password encoder (whose BCrypt cost is calibrated when it is built) and
+ * the authentication manager are created at boot so a misconfiguration fails startup instead of the
+ * first login. Application beans with {@code @Scheduled} methods are registered with the scheduler only once they
+ * exist, so a lazy one would never run. Everything else, such as the controllers, the exception
+ * advice and repositories no eager bean depends on, is created on first use.
+ *
+ * The filter is declared unconditionally: it is only consulted when lazy initialization is enabled,
+ * and a profile condition would be fixed at build time under AOT processing.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    static final List<Class<?>> EAGER_TYPES = List.of(
+            SecurityFilterChain.class, PasswordEncoder.class, AuthenticationManager.class);
+
+    private static final String APPLICATION_PACKAGE = RewardSystemApplication.class.getPackageName() + ".";
+
+    @Bean
+    static LazyInitializationExcludeFilter readinessCriticalBeans() {
+        return (beanName, beanDefinition, beanType) -> isReadinessCritical(beanType);
+    }
+
+    static boolean isReadinessCritical(Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        for (Class<?> eagerType : EAGER_TYPES) {
+            if (eagerType.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        // Only the application's own beans declare jobs; skip introspecting the framework's
+        if (!beanType.getName().startsWith(APPLICATION_PACKAGE)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.getMergedRepeatableAnnotations(method, Scheduled.class, Schedules.class)
+                                .isEmpty() ? null : Boolean.TRUE)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.rewardSystem.config;
+
+import com.rewardSystem.entity.Customer;
+import com.rewardSystem.entity.CustomerMonthPoints;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import com.rewardSystem.entity.RevokedToken;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.entity.WindowChecksum;
+import com.rewardSystem.entity.WindowStatistics;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the JPA mappings and the migration scripts.
+ *
+ * Hibernate reads and writes entity fields reflectively and instantiates {@link TransactionView} and
+ * the other projection records from JPQL {@code select new} expressions, which AOT processing of the
+ * entity scan does not see. Flyway discovers its scripts by classpath scanning, so they are
+ * registered as resources.
+ */
+public class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITIES = List.of(
+            Customer.class, CustomerTranscation.class, MonthlyRewardSummary.class, RevokedToken.class, User.class);
+
+    static final List<Class<?>> PROJECTIONS = List.of(
+            TransactionView.class, CustomerMonthPoints.class, WindowStatistics.class, WindowChecksum.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (Class<?> projection : PROJECTIONS) {
+            hints.reflection().registerType(projection, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("db/migration/*/*.sql");
+    }
+}
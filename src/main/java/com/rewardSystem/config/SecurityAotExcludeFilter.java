@@ -0,0 +1,25 @@
+package com.rewardSystem.config;
+
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.RegisteredBean;
+
+/**
+ * Leaves {@code mvcHandlerMappingIntrospectorRequestTransformer} out of the AOT-generated bean
+ * registrations.
+ *
+ * Spring Security 6.2.1 registers that bean from a registry post-processor in
+ * {@code WebMvcSecurityConfiguration}, which also runs when the generated initializer starts the
+ * context, so the bean would be defined twice (spring-security#14362). Without this filter the AOT
+ * build needs {@code spring.main.allow-bean-definition-overriding}, which would hide any other
+ * duplicate as well. Remove it once Spring Security is at 6.2.2 or later. Registered in
+ * {@code META-INF/spring/aot.factories}.
+ */
+public class SecurityAotExcludeFilter implements BeanRegistrationExcludeFilter {
+
+    static final String REQUEST_TRANSFORMER = "mvcHandlerMappingIntrospectorRequestTransformer";
+
+    @Override
+    public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+        return REQUEST_TRANSFORMER.equals(registeredBean.getBeanName());
+    }
+}
@@ -1,10 +1,22 @@
 
 package com.rewardSystem.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardSystem.security.AdaptiveConcurrencyFilter;
+import com.rewardSystem.security.ClientAddressResolver;
+import com.rewardSystem.security.BCryptCostCalibrator;
+import com.rewardSystem.security.ConcurrencyLimitProperties;
+import com.rewardSystem.security.CostAwareBCryptPasswordEncoder;
 import com.rewardSystem.security.CustomUserDetailsService;
 import com.rewardSystem.security.JwtAuthenticationFilter;
 import com.rewardSystem.security.JwtTokenProvider;
+import com.rewardSystem.security.RateLimitFilter;
+import com.rewardSystem.security.RateLimiter;
+import com.rewardSystem.security.TokenRevocationList;
+import com.rewardSystem.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,11 +25,13 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true, jsr250Enabled = true)
@@ -26,13 +40,27 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationList tokenRevocationList;
+    private final RateLimiter rateLimiter;
+    private final ClientAddressResolver clientAddressResolver;
+    private final ObjectMapper objectMapper;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     /**
      * Password Encoder Bean
+     * New hashes are written as {@code {bcrypt}} with the cost calibrated for this host. Hashes with
+     * a cost outside the fleet-wide accepted band, or stored without an id prefix, still match and are
+     * re-encoded on the next successful login through {@link CustomUserDetailsService#updatePassword}.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(BCryptCostCalibrator costCalibrator) {
+        CostAwareBCryptPasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(costCalibrator.getCost(),
+                costCalibrator.getMinAcceptedCost(), costCalibrator.getMaxAcceptedCost());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     /**
@@ -48,7 +76,8 @@ public class SecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenVersionRegistry,
+                tokenRevocationList);
     }
 
     /**
@@ -69,6 +98,8 @@ public class SecurityConfig {
                         .requestMatchers("/public/**").permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Role-Based Endpoints
                         .requestMatchers("/admin/**").hasRole("ADMIN")
@@ -90,6 +121,13 @@ public class SecurityConfig {
         // Add JWT Filter before UsernamePasswordAuthenticationFilter
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
+        // Rate limit once the principal is known
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, clientAddressResolver, objectMapper), JwtAuthenticationFilter.class);
+
+        // Shed load on expensive endpoints once a request is admitted by the rate limiter
+        http.addFilterAfter(new AdaptiveConcurrencyFilter(concurrencyLimitProperties, objectMapper,
+                meterRegistry.getIfAvailable()), RateLimitFilter.class);
+
         return http.build();
     }
 }
@@ -0,0 +1,70 @@
+package com.rewardSystem.controller;
+
+import com.rewardSystem.dto.BulkProvisioningResponse;
+import com.rewardSystem.dto.RegisterRequest;
+import com.rewardSystem.dto.StartupTimelineResponse;
+import com.rewardSystem.service.StartupTimelineService;
+import com.rewardSystem.service.UserAdminService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private StartupTimelineService startupTimelineService;
+
+    @PostMapping("/users/{username}/revoke-tokens")
+    public ResponseEntity<RevocationResponse> revokeTokens(@PathVariable String username) {
+        logger.info("Token revocation requested for user: {}", username);
+
+        long version = userAdminService.revokeTokens(username);
+        return ResponseEntity.ok(new RevocationResponse(username, version, "All tokens revoked"));
+    }
+
+    /**
+     * Creates users in bulk. Rows that fail validation or hit an existing username or email are
+     * reported individually and do not prevent the others from being created.
+     */
+    @PostMapping("/users/bulk")
+    public ResponseEntity<BulkProvisioningResponse> provisionUsers(@RequestBody List<RegisterRequest> users) {
+        logger.info("Bulk provisioning requested for {} users", users.size());
+
+        BulkProvisioningResponse response = userAdminService.provisionUsers(users);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Lists the slowest bean and phase steps of this instance's startup, longest first.
+     */
+    @GetMapping("/startup-timeline")
+    public ResponseEntity<StartupTimelineResponse> startupTimeline(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(startupTimelineService.slowestSteps(limit));
+    }
+
+    public static class RevocationResponse {
+        public String username;
+        public long tokenVersion;
+        public String message;
+
+        public RevocationResponse(String username, long tokenVersion, String message) {
+            this.username = username;
+            this.tokenVersion = tokenVersion;
+            this.message = message;
+        }
+    }
+}
@@ -4,10 +4,16 @@ import com.rewardSystem.dto.ErrorResponse;
 import com.rewardSystem.dto.LoginRequest;
 import com.rewardSystem.dto.LoginResponse;
 import com.rewardSystem.dto.RegisterRequest;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.exception.TooManyRequestsException;
+import com.rewardSystem.security.ClientAddressResolver;
 import com.rewardSystem.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,9 +27,13 @@ public class AuthenticationController {
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Autowired
+    private ClientAddressResolver clientAddressResolver;
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         logger.info("Login request received for user: {}", loginRequest.getUsername());
+        String clientAddress = clientAddressResolver.resolve(request);
 
         try {
             if (loginRequest.getUsername() == null || loginRequest.getUsername().trim().isEmpty()) {
@@ -40,10 +50,22 @@ public class AuthenticationController {
                 );
             }
 
-            LoginResponse response = authenticationService.login(loginRequest);
+            LoginResponse response = authenticationService.login(loginRequest, clientAddress);
             logger.info("Login successful for user: {}", loginRequest.getUsername());
             return ResponseEntity.ok(response);
 
+        } catch (ServiceUnavailableException e) {
+            logger.warn("Login rejected, verification capacity exhausted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ErrorResponse(503, "SERVICE_UNAVAILABLE", e.getMessage(), "/auth/login"));
+
+        } catch (TooManyRequestsException e) {
+            logger.warn("Login rejected for client {}: {}", clientAddress, e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ErrorResponse(429, "TOO_MANY_REQUESTS", e.getMessage(), "/auth/login"));
+
         } catch (Exception e) {
             logger.error("Login failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
@@ -69,6 +91,36 @@ public class AuthenticationController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        logger.info("Logout request received");
+
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            logger.warn("Logout request without bearer token");
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse(400, "BAD_REQUEST", "Bearer token is required", "/auth/logout")
+            );
+        }
+
+        try {
+            authenticationService.logout(authorization.substring("Bearer ".length()));
+            return ResponseEntity.noContent().build();
+
+        } catch (DataProcessingException e) {
+            logger.warn("Logout rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse(400, "BAD_REQUEST", e.getMessage(), "/auth/logout")
+            );
+
+        } catch (Exception e) {
+            // Revoking writes to the database, whose errors are logged but not returned
+            logger.error("Logout failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    new ErrorResponse(500, "INTERNAL_SERVER_ERROR", "Logout failed", "/auth/logout")
+            );
+        }
+    }
+
     @GetMapping("/validate")
     public ResponseEntity<?> validateToken(@RequestParam String token) {
         logger.trace("Token validation request received");
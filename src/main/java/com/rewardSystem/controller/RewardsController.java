@@ -1,17 +1,25 @@
 package com.rewardSystem.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
 import com.rewardSystem.service.RewardService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.YearMonth;
 import java.util.List;
 
 
@@ -24,6 +32,12 @@ public class RewardsController {
     @Autowired
     private RewardService rewardService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private RewardPipelineMetrics pipelineMetrics = RewardPipelineMetrics.noop();
+
     @GetMapping("/rewards")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<?> getAllRewards() {
@@ -31,11 +45,46 @@ public class RewardsController {
         try {
             List<RewardPoints> rewards = rewardService.findAllRewards();
             logger.info("Successfully retrieved rewards. Total records: {}", rewards.size());
-            return ResponseEntity.ok(rewards);
+
+            // Serialize here rather than in the message converter so the phase can be timed
+            long serializeStart = System.nanoTime();
+            byte[] body = objectMapper.writeValueAsBytes(rewards);
+            pipelineMetrics.record(Phase.SERIALIZE, serializeStart);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (ServiceUnavailableException e) {
+            logger.warn("Rewards computation unavailable: {}", e.getMessage());
+            return unavailable(e);
         } catch (Exception e) {
             logger.error("Error occurred while fetching all rewards", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error fetching rewards: " + e.getMessage());
         }
     }
+
+    @GetMapping("/rewards/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<?> getRewardHistory(@RequestParam YearMonth from, @RequestParam YearMonth to) {
+        logger.info("Fetching reward history from {} to {}", from, to);
+        try {
+            List<RewardPoints> rewards = rewardService.findRewardsForPeriod(from, to);
+            logger.info("Successfully retrieved reward history. Total records: {}", rewards.size());
+            return ResponseEntity.ok(rewards);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid reward history request: {}", e.getMessage());
+            return ResponseEntity.badRequest().body("Invalid reward period: " + e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            logger.warn("Reward history computation unavailable: {}", e.getMessage());
+            return unavailable(e);
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching reward history", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error fetching reward history: " + e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<?> unavailable(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body("Rewards temporarily unavailable: " + e.getMessage());
+    }
 }
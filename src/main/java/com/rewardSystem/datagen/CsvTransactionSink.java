@@ -0,0 +1,80 @@
+package com.rewardSystem.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Writes {@code customer_id,amount,date} CSV. Formatting is done by hand into a byte buffer and
+ * date strings are precomputed for the dataset's span, so the sink does not allocate per row.
+ */
+public class CsvTransactionSink implements TransactionSink {
+
+    private static final byte[] HEADER = "customer_id,amount,date\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[20];
+    private final long firstDay;
+    private final byte[][] dates;
+    private int position;
+
+    public CsvTransactionSink(Path file, LocalDate from, LocalDate to) throws IOException {
+        this(Files.newOutputStream(file), from, to);
+    }
+
+    public CsvTransactionSink(OutputStream out, LocalDate from, LocalDate to) throws IOException {
+        this.out = out;
+        this.firstDay = from.toEpochDay();
+        this.dates = new byte[(int) (to.toEpochDay() - firstDay + 1)][];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(firstDay + i).toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int customerId, long amountCents, long epochDay) throws IOException {
+        if (position > BUFFER_SIZE - 64) {
+            flushBuffer();
+        }
+        writeLong(customerId);
+        buffer[position++] = ',';
+        writeLong(amountCents / 100);
+        buffer[position++] = '.';
+        int cents = (int) (amountCents % 100);
+        buffer[position++] = (byte) ('0' + cents / 10);
+        buffer[position++] = (byte) ('0' + cents % 10);
+        buffer[position++] = ',';
+        byte[] date = dates[(int) (epochDay - firstDay)];
+        System.arraycopy(date, 0, buffer, position, date.length);
+        position += date.length;
+        buffer[position++] = '\n';
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+    }
+
+    private void writeLong(long value) {
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        while (length > 0) {
+            buffer[position++] = digits[--length];
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.rewardSystem.datagen;
+
+import java.time.LocalDate;
+
+/**
+ * Shape of a generated transaction dataset.
+ *
+ * @param rows         number of transactions to generate
+ * @param customers    number of distinct customer ids ({@code 1..customers})
+ * @param zipfExponent activity skew across customers; 0 is uniform, around 1 is typical retail skew
+ * @param from         first transaction date (inclusive)
+ * @param to           last transaction date (inclusive)
+ * @param seed         seed that fully determines the generated rows
+ */
+public record DatasetSpec(long rows, int customers, double zipfExponent, LocalDate from, LocalDate to, long seed) {
+
+    public DatasetSpec {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Row count must not be negative: " + rows);
+        }
+        if (customers < 1) {
+            throw new IllegalArgumentException("Customer count must be positive: " + customers);
+        }
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid date span: " + from + " to " + to);
+        }
+    }
+
+    /**
+     * A dataset covering the last {@code days} days up to today.
+     */
+    public static DatasetSpec recent(long rows, int customers, double zipfExponent, int days, long seed) {
+        LocalDate today = LocalDate.now();
+        return new DatasetSpec(rows, customers, zipfExponent, today.minusDays(days - 1L), today, seed);
+    }
+}
@@ -0,0 +1,68 @@
+package com.rewardSystem.datagen;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Inserts generated rows into the {@code transactions} table with JDBC batches, committing once
+ * per batch. For MySQL, add {@code rewriteBatchedStatements=true} to the URL so each batch is sent
+ * as a single multi-row INSERT.
+ */
+public class JdbcTransactionSink implements TransactionSink {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions (customer_id, amount, date) VALUES (?, ?, ?)";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+
+    public JdbcTransactionSink(Connection connection, int batchSize) throws IOException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        try {
+            connection.setAutoCommit(false);
+            this.statement = connection.prepareStatement(INSERT_SQL);
+        } catch (SQLException e) {
+            throw new IOException("Could not prepare transaction insert", e);
+        }
+    }
+
+    @Override
+    public void write(int customerId, long amountCents, long epochDay) throws IOException {
+        try {
+            statement.setInt(1, customerId);
+            statement.setDouble(2, amountCents / 100.0);
+            statement.setDate(3, Date.valueOf(LocalDate.ofEpochDay(epochDay)));
+            statement.addBatch();
+            if (++pending >= batchSize) {
+                flushBatch();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Batch insert failed", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (pending > 0) {
+                flushBatch();
+            }
+            statement.close();
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not flush final batch", e);
+        }
+    }
+
+    private void flushBatch() throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+        pending = 0;
+    }
+}
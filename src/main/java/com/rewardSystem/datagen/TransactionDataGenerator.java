@@ -0,0 +1,163 @@
+package com.rewardSystem.datagen;
+
+import com.rewardSystem.entity.CustomerTranscation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deterministic generator of synthetic {@link CustomerTranscation} data for scale testing.
+ *
+ * Rows are produced in fixed-size partitions, each with its own random stream derived from the
+ * seed, so the same {@link DatasetSpec} always yields the same rows whether they are generated on
+ * one thread or many. Customer activity follows a Zipf distribution and amounts cluster around the
+ * 50 and 100 reward tier thresholds, including exact and off-by-one-cent boundary values.
+ */
+public class TransactionDataGenerator {
+
+    static final int PARTITION_ROWS = 1 << 20;
+
+    private static final long[] BOUNDARY_CENTS = {4999, 5000, 5001, 9999, 10000, 10001};
+
+    /**
+     * Opens one sink per generating thread.
+     */
+    @FunctionalInterface
+    public interface SinkFactory {
+        TransactionSink open() throws IOException;
+    }
+
+    private final DatasetSpec spec;
+    private final ZipfDistribution customerDistribution;
+    private final long fromDay;
+    private final int daySpan;
+
+    public TransactionDataGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.customerDistribution = new ZipfDistribution(spec.customers(), spec.zipfExponent());
+        this.fromDay = spec.from().toEpochDay();
+        this.daySpan = (int) (spec.to().toEpochDay() - fromDay + 1);
+    }
+
+    public DatasetSpec getSpec() {
+        return spec;
+    }
+
+    public int partitionCount() {
+        return (int) ((spec.rows() + PARTITION_ROWS - 1) / PARTITION_ROWS);
+    }
+
+    /**
+     * Writes every row to {@code sink} in partition order on the calling thread.
+     */
+    public void generate(TransactionSink sink) throws IOException {
+        for (int partition = 0; partition < partitionCount(); partition++) {
+            generatePartition(partition, sink);
+        }
+    }
+
+    /**
+     * Generates partitions on {@code threads} threads, each writing to its own sink. The set of rows
+     * is identical to {@link #generate(TransactionSink)}; only the interleaving differs.
+     */
+    public void generateParallel(int threads, SinkFactory sinkFactory) throws IOException {
+        AtomicInteger nextPartition = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    try (TransactionSink sink = sinkFactory.open()) {
+                        int partition;
+                        while ((partition = nextPartition.getAndIncrement()) < partitionCount()) {
+                            generatePartition(partition, sink);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Data generation interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            throw cause instanceof IOException io ? io : new IOException("Data generation failed", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Materializes the dataset as entities, for tests and in-memory benchmarks.
+     */
+    public List<CustomerTranscation> toList() {
+        if (spec.rows() > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Dataset too large to materialize: " + spec.rows());
+        }
+        List<CustomerTranscation> transactions = new ArrayList<>((int) spec.rows());
+        try {
+            generate(new TransactionSink() {
+                @Override
+                public void write(int customerId, long amountCents, long epochDay) {
+                    transactions.add(new CustomerTranscation(customerId, amountCents / 100.0, LocalDate.ofEpochDay(epochDay)));
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return transactions;
+    }
+
+    void generatePartition(int partition, TransactionSink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ (0x9E3779B97F4A7C15L * (partition + 1)));
+        long start = (long) partition * PARTITION_ROWS;
+        long end = Math.min(spec.rows(), start + PARTITION_ROWS);
+        for (long row = start; row < end; row++) {
+            sink.write(customerDistribution.sample(random), sampleAmountCents(random), fromDay + random.nextInt(daySpan));
+        }
+    }
+
+    /**
+     * Mixture of amounts: 5% exact tier boundaries, 30% below 50, 35% between 50 and 100 and 30%
+     * above 100 with a log-normal tail (median around 160).
+     */
+    static long sampleAmountCents(SplittableRandom random) {
+        double u = random.nextDouble();
+        if (u < 0.05) {
+            return BOUNDARY_CENTS[random.nextInt(BOUNDARY_CENTS.length)];
+        }
+        if (u < 0.35) {
+            return random.nextLong(1, 5000);
+        }
+        if (u < 0.70) {
+            return random.nextLong(5000, 10001);
+        }
+        double tail = Math.exp(Math.log(60) + 0.9 * gaussian(random));
+        return 10000 + Math.min(Math.round(tail * 100), 1_000_000);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller, discarding the second variate so the generator stays stateless
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
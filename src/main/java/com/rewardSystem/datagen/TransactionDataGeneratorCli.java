@@ -0,0 +1,86 @@
+package com.rewardSystem.datagen;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line front end for {@link TransactionDataGenerator}.
+ *
+ * <pre>
+ * --rows=N            number of transactions (default 1000000)
+ * --customers=N       distinct customers (default 10000)
+ * --zipf=S            activity skew exponent, 0 for uniform (default 1.0)
+ * --from=YYYY-MM-DD   first date (default 120 days ago)
+ * --to=YYYY-MM-DD     last date (default today)
+ * --seed=N            random seed (default 42)
+ * --csv=PATH          write CSV to PATH, or
+ * --jdbc-url=URL      insert into the transactions table at URL
+ * --jdbc-user=USER    --jdbc-password=PASSWORD  --batch-size=N (default 10000)
+ * --threads=N         JDBC writer threads (default: available processors)
+ * </pre>
+ */
+public final class TransactionDataGeneratorCli {
+
+    private TransactionDataGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        LocalDate today = LocalDate.now();
+        DatasetSpec spec = new DatasetSpec(
+                Long.parseLong(options.getOrDefault("rows", "1000000")),
+                Integer.parseInt(options.getOrDefault("customers", "10000")),
+                Double.parseDouble(options.getOrDefault("zipf", "1.0")),
+                LocalDate.parse(options.getOrDefault("from", today.minusDays(119).toString())),
+                LocalDate.parse(options.getOrDefault("to", today.toString())),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        TransactionDataGenerator generator = new TransactionDataGenerator(spec);
+
+        long start = System.nanoTime();
+        if (options.containsKey("csv")) {
+            try (CsvTransactionSink sink = new CsvTransactionSink(Path.of(options.get("csv")), spec.from(), spec.to())) {
+                generator.generate(sink);
+            }
+        } else if (options.containsKey("jdbc-url")) {
+            String url = options.get("jdbc-url");
+            String user = options.getOrDefault("jdbc-user", "");
+            String password = options.getOrDefault("jdbc-password", "");
+            int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "10000"));
+            int threads = Integer.parseInt(options.getOrDefault("threads",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+            generator.generateParallel(threads,
+                    () -> {
+                        try {
+                            return new JdbcTransactionSink(DriverManager.getConnection(url, user, password), batchSize);
+                        } catch (SQLException e) {
+                            throw new IOException("Could not connect to " + url, e);
+                        }
+                    });
+        } else {
+            System.err.println("Specify --csv=PATH or --jdbc-url=URL");
+            System.exit(2);
+            return;
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Generated %,d transactions for %,d customers in %.2f s (%,.0f rows/s)%n",
+                spec.rows(), spec.customers(), seconds, spec.rows() / seconds);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,20 @@
+package com.rewardSystem.datagen;
+
+import java.io.IOException;
+
+/**
+ * Destination for generated transactions. Rows are passed as primitives so that generating
+ * hundreds of millions of rows does not allocate per row.
+ */
+public interface TransactionSink extends AutoCloseable {
+
+    /**
+     * @param customerId  customer identifier, starting at 1
+     * @param amountCents transaction amount in cents
+     * @param epochDay    transaction date as {@link java.time.LocalDate#toEpochDay()}
+     */
+    void write(int customerId, long amountCents, long epochDay) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
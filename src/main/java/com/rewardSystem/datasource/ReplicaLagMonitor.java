@@ -0,0 +1,89 @@
+package com.rewardSystem.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically measures replication lag so read-only work can fall back to the primary.
+ *
+ * The lag query must return the lag in seconds, either in a {@code Seconds_Behind_Source} /
+ * {@code Seconds_Behind_Master} column (MySQL {@code SHOW REPLICA STATUS}) or in the first column.
+ * An empty result, a {@code NULL} lag or a failed query marks the replica unusable.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable;
+    private volatile long lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${rewards.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        Long lag = measureLag();
+        boolean usable = lag != null && lag <= maxLagSeconds;
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("Replica is usable again (lag {}s)", lag);
+            } else {
+                logger.warn("Replica marked unusable (lag {}s, threshold {}s); reads fall back to primary",
+                        lag, maxLagSeconds);
+            }
+        }
+        lastLagSeconds = lag == null ? -1 : lag;
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Last measured lag in seconds, or -1 when it could not be determined.
+     */
+    public long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    private Long measureLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            Object value = rs.getObject(lagColumn(rs.getMetaData()));
+            return value instanceof Number number ? number.longValue() : null;
+        } catch (SQLException e) {
+            logger.warn("Could not determine replica lag: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String label = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+}
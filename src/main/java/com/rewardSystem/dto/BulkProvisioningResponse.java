@@ -0,0 +1,16 @@
+package com.rewardSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProvisioningResponse {
+    private int created;
+    private int rejected;
+    private List<BulkUserResult> results;
+}
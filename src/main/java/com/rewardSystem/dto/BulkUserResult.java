@@ -0,0 +1,30 @@
+package com.rewardSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one row of a bulk user provisioning request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private int index;
+    private String username;
+    private String status;
+    private String message;
+
+    public static BulkUserResult created(int index, String username) {
+        return new BulkUserResult(index, username, CREATED, "User created");
+    }
+
+    public static BulkUserResult rejected(int index, String username, String message) {
+        return new BulkUserResult(index, username, REJECTED, message);
+    }
+}
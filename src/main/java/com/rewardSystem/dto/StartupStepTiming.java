@@ -0,0 +1,18 @@
+package com.rewardSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupStepTiming {
+    private long id;
+    private Long parentId;
+    private String name;
+    private double durationMs;
+    private Map<String, String> tags;
+}
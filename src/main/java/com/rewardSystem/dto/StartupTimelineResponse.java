@@ -0,0 +1,17 @@
+package com.rewardSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupTimelineResponse {
+    private Instant startTime;
+    private int recordedSteps;
+    private List<StartupStepTiming> steps;
+}
@@ -0,0 +1,10 @@
+package com.rewardSystem.entity;
+
+/**
+ * One customer's reward points for one calendar month, aggregated by the database. {@code month} is
+ * 1 to 12; {@code points} is the sum of the per-transaction points, each rounded down as in
+ * {@code RewardServiceImpl.calculatePoints}. {@code minAmount} is the smallest amount in the group,
+ * so negative amounts can be rejected as the other engines do.
+ */
+public record CustomerMonthPoints(int customerId, int month, long transactions, double points, double minAmount) {
+}
@@ -1,11 +1,19 @@
 package com.rewardSystem.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.List;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_date_customer_amount", columnList = "date, customer_id, amount"),
+        @Index(name = "idx_transactions_customer_date", columnList = "customer_id, date")
+})
 public class CustomerTranscation {
 
     @Id
@@ -21,6 +29,9 @@ public class CustomerTranscation {
     @Column(nullable = false)
     private LocalDate date;
 
+    @Transient
+    private boolean inserted;
+
     public CustomerTranscation() {
 
     }
@@ -64,6 +75,35 @@ public class CustomerTranscation {
         this.date = date;
     }
 
+    /**
+     * Stores amounts in whole cents, so every reward engine, including the columnar one that keeps
+     * cents, sees the same value.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void roundAmount() {
+        amount = BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    @PostPersist
+    protected void onInsert() {
+        inserted = true;
+    }
+
+    /**
+     * Published by Spring Data after a repository save that inserted this row; saving an existing
+     * row publishes nothing, so the event marks each transaction exactly once.
+     */
+    @DomainEvents
+    List<TransactionSavedEvent> savedEvents() {
+        return inserted ? List.of(TransactionSavedEvent.of(this)) : List.of();
+    }
+
+    @AfterDomainEventPublication
+    void clearSavedEvents() {
+        inserted = false;
+    }
+
     @Override
     public String toString() {
         return "Transactions [id=" + id + ", customerId=" + customerId + ", amount=" + amount + ", date=" + date + "]";
@@ -0,0 +1,109 @@
+package com.rewardSystem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Compacted monthly roll-up of a customer's transactions.
+ * Raw rows older than the retention horizon are folded into one row per
+ * customer and month and then removed from the transactions table.
+ */
+@Entity
+@Table(name = "monthly_reward_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summary_customer_month",
+                columnNames = {"customer_id", "summary_month"}))
+public class MonthlyRewardSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private int customerId;
+
+    /**
+     * Month in ISO {@code yyyy-MM} form, so lexical order matches calendar order.
+     */
+    @Column(name = "summary_month", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(nullable = false)
+    private double totalAmount;
+
+    @Column(nullable = false)
+    private int points;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long count;
+
+    public MonthlyRewardSummary() {
+
+    }
+
+    public MonthlyRewardSummary(int customerId, String yearMonth) {
+        this.customerId = customerId;
+        this.yearMonth = yearMonth;
+    }
+
+    /**
+     * Folds a single raw transaction into this summary.
+     */
+    public void add(double amount, int transactionPoints) {
+        this.totalAmount += amount;
+        this.points += transactionPoints;
+        this.count++;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(int customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getYearMonth() {
+        return yearMonth;
+    }
+
+    public void setYearMonth(String yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    public double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(double totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public void setPoints(int points) {
+        this.points = points;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "MonthlyRewardSummary [customerId=" + customerId + ", yearMonth=" + yearMonth
+                + ", totalAmount=" + totalAmount + ", points=" + points + ", count=" + count + "]";
+    }
+}
@@ -6,6 +6,8 @@ public class RewardPoints {
 
     private int customerId;
 
+    private String customerName;
+
     private Map<String, Integer> monthlyRewards;
 
     private int totalRewardPoints;
@@ -28,6 +30,14 @@ public class RewardPoints {
         this.customerId = customerId;
     }
 
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
     public Map<String, Integer> getMonthlyRewards() {
         return monthlyRewards;
     }
@@ -46,7 +56,7 @@ public class RewardPoints {
 
     @Override
     public String toString() {
-        return "RewardResponse [customerId=" + customerId + ", monthlyRewards=" + monthlyRewards
+        return "RewardResponse [customerId=" + customerId + ", customerName=" + customerName + ", monthlyRewards=" + monthlyRewards
                 + ", totalRewardPoints=" + totalRewardPoints + "]";
     }
 
@@ -0,0 +1,14 @@
+package com.rewardSystem.entity;
+
+import java.time.LocalDate;
+
+/**
+ * A {@link CustomerTranscation} that was just inserted, published so in-memory copies of the reward
+ * window can append it without reading the table.
+ */
+public record TransactionSavedEvent(int customerId, double amount, LocalDate date) {
+
+    public static TransactionSavedEvent of(CustomerTranscation transaction) {
+        return new TransactionSavedEvent(transaction.getCustomerId(), transaction.getAmount(), transaction.getDate());
+    }
+}
@@ -0,0 +1,15 @@
+package com.rewardSystem.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a {@link CustomerTranscation} with just the columns the reward engine
+ * needs. Loaded through a constructor expression, so Hibernate neither manages the rows nor keeps a
+ * dirty-checking snapshot of them.
+ */
+public record TransactionView(int customerId, double amount, LocalDate date) {
+
+    public static TransactionView of(CustomerTranscation transaction) {
+        return new TransactionView(transaction.getCustomerId(), transaction.getAmount(), transaction.getDate());
+    }
+}
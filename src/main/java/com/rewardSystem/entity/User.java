@@ -4,29 +4,41 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.DomainEvents;
+
+import java.util.List;
 
 /**
  * User entity representing system users with authentication and authorization.
  * Supports role-based access control (RBAC).
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+}, indexes = @Index(name = "idx_users_updated_at", columnList = "updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
+    /**
+     * Constraint names are stable so duplicate inserts can be told apart from the database error.
+     */
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -42,6 +54,16 @@ public class User {
     @Column(name = "last_login")
     private Long lastLogin;
 
+    @Column(name = "updated_at")
+    private Long updatedAt;
+
+    /**
+     * Embedded in issued tokens as the {@code ver} claim. Bumping it invalidates every
+     * token issued before the change.
+     */
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion = 0L;
+
     /**
      * Enum for user roles with authority levels.
      */
@@ -54,6 +76,21 @@ public class User {
     @PrePersist
     protected void onCreate() {
         createdAt = System.currentTimeMillis();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Published by Spring Data after every repository save so in-memory token checks
+     * see role, status and version changes without a database round trip.
+     */
+    @DomainEvents
+    List<UserSavedEvent> savedEvents() {
+        return List.of(UserSavedEvent.of(this));
     }
 
     @Override
@@ -64,6 +101,7 @@ public class User {
                 ", email='" + email + '\'' +
                 ", enabled=" + enabled +
                 ", role=" + role +
+                ", tokenVersion=" + tokenVersion +
                 ", createdAt=" + createdAt +
                 '}';
     }
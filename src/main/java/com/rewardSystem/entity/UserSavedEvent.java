@@ -0,0 +1,13 @@
+package com.rewardSystem.entity;
+
+/**
+ * Snapshot of the token-relevant state of a {@link User}, published whenever the user is saved.
+ */
+public record UserSavedEvent(String username, User.UserRole role, boolean enabled, long tokenVersion) {
+
+    public static UserSavedEvent of(User user) {
+        return new UserSavedEvent(user.getUsername(), user.getRole(),
+                Boolean.TRUE.equals(user.getEnabled()),
+                user.getTokenVersion() == null ? 0L : user.getTokenVersion());
+    }
+}
@@ -0,0 +1,9 @@
+package com.rewardSystem.entity;
+
+/**
+ * Cheap fingerprint of a reward window: its transactions, the sum of their amounts in cents and the
+ * sum of their customer ids. A copy of the window that matches on all three holds the same rows as
+ * far as inserts, deletes and amount or customer changes go.
+ */
+public record WindowChecksum(long transactions, long amountCents, long customerIds) {
+}
@@ -0,0 +1,7 @@
+package com.rewardSystem.entity;
+
+/**
+ * Size of a reward window: the transactions it holds and the distinct customers they belong to.
+ */
+public record WindowStatistics(long transactions, long customers) {
+}
@@ -0,0 +1,27 @@
+package com.rewardSystem.repository;
+
+import com.rewardSystem.entity.Customer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Customer lookups for the rewards output. Each method resolves every customer of a rewards run in
+ * one statement, using a subquery on the same range as the run rather than one lookup per customer.
+ */
+public interface CustomerRepository extends JpaRepository<Customer, Integer> {
+
+    @Query("select c from Customer c where c.customerId in "
+            + "(select t.customerId from CustomerTranscation t where t.date >= :from)")
+    List<Customer> findWithTransactionsSince(@Param("from") LocalDate from);
+
+    @Query("select c from Customer c where c.customerId in "
+            + "(select t.customerId from CustomerTranscation t where t.date between :from and :to) "
+            + "or c.customerId in "
+            + "(select s.customerId from MonthlyRewardSummary s where s.yearMonth between :fromMonth and :toMonth)")
+    List<Customer> findWithRewardsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                          @Param("fromMonth") String fromMonth, @Param("toMonth") String toMonth);
+}
@@ -0,0 +1,26 @@
+package com.rewardSystem.repository;
+
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MonthlyRewardSummaryRepository extends JpaRepository<MonthlyRewardSummary, Long> {
+
+    List<MonthlyRewardSummary> findByYearMonthAndCustomerIdIn(String yearMonth, Collection<Integer> customerIds);
+
+    List<MonthlyRewardSummary> findByYearMonthBetween(String fromMonth, String toMonth);
+
+    @Query("select coalesce(sum(s.totalAmount), 0) from MonthlyRewardSummary s"
+            + " where s.yearMonth = :yearMonth and s.customerId in :customerIds")
+    double sumAmountForCustomers(@Param("yearMonth") String yearMonth,
+                                 @Param("customerIds") Collection<Integer> customerIds);
+
+    @Query("select coalesce(sum(s.count), 0) from MonthlyRewardSummary s"
+            + " where s.yearMonth = :yearMonth and s.customerId in :customerIds")
+    long sumCountForCustomers(@Param("yearMonth") String yearMonth,
+                              @Param("customerIds") Collection<Integer> customerIds);
+}
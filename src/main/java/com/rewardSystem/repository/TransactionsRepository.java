@@ -1,7 +1,95 @@
 package com.rewardSystem.repository;
 
+import com.rewardSystem.entity.CustomerMonthPoints;
 import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.WindowChecksum;
+import com.rewardSystem.entity.WindowStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 public interface TransactionsRepository extends JpaRepository<CustomerTranscation,Long> {
+
+    List<CustomerTranscation> findByDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Reward scan from {@code from} onwards as unmanaged projections, flushing nothing beforehand.
+     */
+    @Query("select new com.rewardSystem.entity.TransactionView(t.customerId, t.amount, t.date) "
+            + "from CustomerTranscation t where t.date >= :from")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    List<TransactionView> findViewsSince(@Param("from") LocalDate from);
+
+    @Query("select new com.rewardSystem.entity.TransactionView(t.customerId, t.amount, t.date) "
+            + "from CustomerTranscation t where t.date between :from and :to")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    List<TransactionView> findViewsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Reward points per customer and month from {@code from} onwards, computed by the database. The
+     * case expression mirrors {@code RewardServiceImpl.calculatePoints} for non-negative amounts; the
+     * minimum amount lets the caller reject negative ones.
+     */
+    @Query("select new com.rewardSystem.entity.CustomerMonthPoints(t.customerId, extract(month from t.date), "
+            + "count(t), sum(case when t.amount > 100 then floor((t.amount - 100) * 2) + 50 "
+            + "when t.amount > 50 then floor(t.amount - 50) else 0 end), min(t.amount)) "
+            + "from CustomerTranscation t where t.date >= :from "
+            + "group by t.customerId, extract(month from t.date)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<CustomerMonthPoints> sumPointsByCustomerAndMonthSince(@Param("from") LocalDate from);
+
+    @Query("select new com.rewardSystem.entity.WindowStatistics(count(t), count(distinct t.customerId)) "
+            + "from CustomerTranscation t where t.date >= :from")
+    WindowStatistics windowStatisticsSince(@Param("from") LocalDate from);
+
+    /**
+     * Fingerprint of the transactions from {@code from} onwards, compared by {@code ColumnarRewardWindow}
+     * with its own copy. Amounts are stored in whole cents, so the rounded sum is exact. Answered from
+     * the (date, customer_id, amount) index.
+     */
+    @Query("select new com.rewardSystem.entity.WindowChecksum(count(t), "
+            + "coalesce(cast(sum(round(t.amount * 100, 0)) as long), 0), coalesce(sum(t.customerId), 0)) "
+            + "from CustomerTranscation t where t.date >= :from")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    WindowChecksum windowChecksumSince(@Param("from") LocalDate from);
+
+    /**
+     * {@link #windowChecksumSince} for the transactions dated {@code from} to {@code to}, inclusive.
+     */
+    @Query("select new com.rewardSystem.entity.WindowChecksum(count(t), "
+            + "coalesce(cast(sum(round(t.amount * 100, 0)) as long), 0), coalesce(sum(t.customerId), 0)) "
+            + "from CustomerTranscation t where t.date between :from and :to")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    WindowChecksum windowChecksumBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    long countByDateGreaterThanEqual(LocalDate from);
+
+    Optional<CustomerTranscation> findFirstByDateBeforeOrderByDateAsc(LocalDate date);
+
+    @Query("select t from CustomerTranscation t where t.date >= :from and t.date < :to order by t.id")
+    List<CustomerTranscation> findChunkInRange(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                               Pageable pageable);
+
+    @Query("select coalesce(sum(t.amount), 0) from CustomerTranscation t where t.date >= :from and t.date < :to")
+    double sumAmountInRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select count(t) from CustomerTranscation t where t.date >= :from and t.date < :to")
+    long countInRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
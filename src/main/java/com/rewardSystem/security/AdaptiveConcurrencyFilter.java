@@ -0,0 +1,130 @@
+package com.rewardSystem.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardSystem.dto.ErrorResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sheds load on expensive endpoints before it reaches the database.
+ *
+ * Each budget from {@link ConcurrencyLimitProperties} owns an {@link AdaptiveConcurrencyLimiter}.
+ * Requests over their budget's current limit get {@code 503} with {@code Retry-After} at once, so
+ * a burst of rewards computations cannot starve cheap endpoints or logins of threads, connections
+ * and heap. Responses with a 5xx status and exceptions count as drops and make the limit back off.
+ *
+ * Not a bean for the same reason as {@link RateLimitFilter}.
+ */
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyFilter.class);
+
+    private final List<Budget> budgets;
+    private final ObjectMapper objectMapper;
+
+    public AdaptiveConcurrencyFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                     MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.budgets = properties.isEnabled()
+                ? properties.getBudgets().stream().map(Budget::of).toList()
+                : List.of();
+        if (registry != null) {
+            budgets.forEach(budget -> bind(budget.limiter(), registry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        AdaptiveConcurrencyLimiter limiter = limiterFor(path);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            logger.warn("Shedding request to {}: {} budget at its limit of {}", path, limiter.getName(),
+                    limiter.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    new ErrorResponse(503, "SERVICE_UNAVAILABLE", "Server busy, please retry shortly", path));
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (failed) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        }
+    }
+
+    List<AdaptiveConcurrencyLimiter> limiters() {
+        return budgets.stream().map(Budget::limiter).toList();
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(String path) {
+        if (budgets.isEmpty()) {
+            return null;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Budget budget : budgets) {
+            for (PathPattern pattern : budget.patterns()) {
+                if (pattern.matches(pathContainer)) {
+                    return budget.limiter();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void bind(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("concurrency_limit.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("budget", limiter.getName())
+                .register(registry);
+        Gauge.builder("concurrency_limit.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("budget", limiter.getName())
+                .register(registry);
+        FunctionCounter.builder("concurrency_limit.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tag("budget", limiter.getName())
+                .register(registry);
+    }
+
+    private record Budget(List<PathPattern> patterns, AdaptiveConcurrencyLimiter limiter) {
+
+        static Budget of(ConcurrencyLimitProperties.Budget budget) {
+            List<PathPattern> patterns = budget.getPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            return new Budget(patterns, new AdaptiveConcurrencyLimiter(budget.getName(),
+                    budget.getInitialLimit(), budget.getMinLimit(), budget.getMaxLimit(),
+                    budget.getTolerance(), budget.getBackoffRatio(), budget.getWindowSize()));
+        }
+    }
+}
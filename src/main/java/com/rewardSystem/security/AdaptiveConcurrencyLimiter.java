@@ -0,0 +1,151 @@
+package com.rewardSystem.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency (additive increase, multiplicative decrease).
+ *
+ * Requests take a permit if fewer than {@link #getLimit()} are in flight and are rejected
+ * immediately otherwise; nothing queues. Completed requests report their latency. After every
+ * {@code windowSize} samples the window's mean latency is compared with the no-load latency, the
+ * lowest window mean seen so far: if it exceeds it by more than {@code tolerance}, or a request
+ * failed, the limit is multiplied by {@code backoffRatio}; if the window was healthy and at least
+ * half the limit was in use, the limit grows by one. The no-load latency drifts up by 1 % per window
+ * so that it follows a permanent change in the baseline.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double NO_LOAD_DRIFT = 1.01;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final int windowSize;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+
+    // Window state, guarded by this
+    private int windowSamples;
+    private long windowLatencySum;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private double noLoadLatency = Double.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double backoffRatio, int windowSize) {
+        this(name, initialLimit, minLimit, maxLimit, tolerance, backoffRatio, windowSize, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance,
+                               double backoffRatio, int windowSize, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalStateException("Invalid concurrency limits for " + name);
+        }
+        if (tolerance < 1 || backoffRatio <= 0 || backoffRatio >= 1 || windowSize < 1) {
+            throw new IllegalStateException("Invalid concurrency limit tuning for " + name);
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.windowSize = windowSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @return a permit to release when the request completes, or {@code null} if the limit is reached
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(clock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean dropped) {
+        windowSamples++;
+        windowLatencySum += latencyNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        windowDropped |= dropped;
+        if (windowSamples < windowSize) {
+            return;
+        }
+
+        double meanLatency = (double) windowLatencySum / windowSamples;
+        noLoadLatency = Math.min(noLoadLatency * NO_LOAD_DRIFT, meanLatency);
+        if (windowDropped || meanLatency > noLoadLatency * tolerance) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (windowMaxInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        windowSamples = 0;
+        windowLatencySum = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    /**
+     * One admitted request. Exactly one of {@link #success()} or {@link #dropped()} must be called.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The request completed; its latency feeds the limit.
+         */
+        public void success() {
+            release(false);
+        }
+
+        /**
+         * The request failed or timed out, which counts as a sign of overload.
+         */
+        public void dropped() {
+            release(true);
+        }
+
+        private void release(boolean dropped) {
+            inFlight.decrementAndGet();
+            onSample(clock.getAsLong() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.rewardSystem.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Spring Security principal that also carries the user's token version, so a freshly
+ * authenticated user can be issued a token with the matching {@code ver} claim.
+ */
+public class AuthenticatedUser extends User {
+
+    private final long tokenVersion;
+
+    public AuthenticatedUser(String username, String password, boolean enabled,
+                             Collection<? extends GrantedAuthority> authorities, long tokenVersion) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.tokenVersion = tokenVersion;
+    }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+}
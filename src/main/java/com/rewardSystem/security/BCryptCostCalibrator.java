@@ -0,0 +1,132 @@
+package com.rewardSystem.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt cost for this host at startup.
+ *
+ * Hashes a sample password at increasing cost and keeps the highest cost whose median hashing time
+ * stays within {@code security.bcrypt.latency-budget-ms}, bounded by {@code min-cost} and
+ * {@code max-cost}. Since every cost step doubles the work, probing stops as soon as the next step
+ * would clearly exceed the budget. A non-zero {@code security.bcrypt.cost} skips calibration.
+ *
+ * Stored hashes are only re-encoded when their cost falls outside the accepted band, which is the
+ * same on every host: {@code [min-cost, max-cost]} when calibrating, or the pinned cost plus or minus
+ * {@code security.bcrypt.cost-tolerance}. Hosts that calibrate to different costs therefore leave each
+ * other's hashes alone.
+ */
+@Component
+public class BCryptCostCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1";
+
+    @Value("${security.bcrypt.cost:0}")
+    private int fixedCost;
+
+    @Value("${security.bcrypt.latency-budget-ms:50}")
+    private long latencyBudgetMs;
+
+    @Value("${security.bcrypt.min-cost:10}")
+    private int minCost;
+
+    @Value("${security.bcrypt.max-cost:14}")
+    private int maxCost;
+
+    @Value("${security.bcrypt.cost-tolerance:1}")
+    private int costTolerance;
+
+    private int cost;
+    private int minAcceptedCost;
+    private int maxAcceptedCost;
+
+    @PostConstruct
+    void init() {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalStateException("Invalid BCrypt cost range [" + minCost + ", " + maxCost + "]");
+        }
+        if (fixedCost != 0) {
+            if (fixedCost < 4 || fixedCost > 31) {
+                throw new IllegalStateException("Invalid BCrypt cost " + fixedCost + ", expected 4 to 31");
+            }
+            if (costTolerance < 0) {
+                throw new IllegalStateException("Invalid BCrypt cost tolerance " + costTolerance);
+            }
+            cost = fixedCost;
+            minAcceptedCost = Math.max(4, fixedCost - costTolerance);
+            maxAcceptedCost = Math.min(31, fixedCost + costTolerance);
+            logger.info("Using configured BCrypt cost {}, keeping hashes with cost {} to {}",
+                    cost, minAcceptedCost, maxAcceptedCost);
+            return;
+        }
+        cost = calibrate();
+        minAcceptedCost = minCost;
+        maxAcceptedCost = maxCost;
+    }
+
+    /**
+     * The BCrypt cost new hashes should be written with.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * The lowest cost a stored hash may have without being re-encoded.
+     */
+    public int getMinAcceptedCost() {
+        return minAcceptedCost;
+    }
+
+    /**
+     * The highest cost a stored hash may have without being re-encoded.
+     */
+    public int getMaxAcceptedCost() {
+        return maxAcceptedCost;
+    }
+
+    int calibrate() {
+        long started = System.nanoTime();
+        long budgetNanos = latencyBudgetMs * 1_000_000;
+
+        int chosen = minCost;
+        long chosenNanos = medianHashNanos(minCost);
+        if (chosenNanos > budgetNanos) {
+            logger.warn("BCrypt cost {} takes {} ms, above the {} ms budget; keeping the minimum cost",
+                    minCost, chosenNanos / 1_000_000, latencyBudgetMs);
+        } else {
+            while (chosen < maxCost && chosenNanos * 2 <= budgetNanos * 3 / 2) {
+                long nextNanos = medianHashNanos(chosen + 1);
+                if (nextNanos > budgetNanos) {
+                    break;
+                }
+                chosen++;
+                chosenNanos = nextNanos;
+            }
+        }
+
+        logger.info("Calibrated BCrypt cost {} ({} ms per hash, budget {} ms) in {} ms",
+                chosen, chosenNanos / 1_000_000, latencyBudgetMs, (System.nanoTime() - started) / 1_000_000);
+        return chosen;
+    }
+
+    private static long medianHashNanos(int cost) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String salt = BCrypt.gensalt(cost);
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
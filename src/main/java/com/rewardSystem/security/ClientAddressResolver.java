@@ -0,0 +1,77 @@
+package com.rewardSystem.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the address of the client behind a request, used as the per-client key for login
+ * fairness ({@link PasswordVerificationExecutor}) and IP rate limits ({@link RateLimitFilter}).
+ *
+ * Behind a load balancer or ingress the remote address is the proxy's, shared by every client. When
+ * the remote address matches {@code security.client-address.trusted-proxies}, the
+ * {@code security.client-address.header} (X-Forwarded-For by default) is walked from the right and
+ * the first hop that is not itself a trusted proxy is taken as the client, as Tomcat's
+ * {@code RemoteIpValve} does. Requests from any other address keep their remote address, so clients
+ * cannot pick their own key by sending the header. An empty header name turns resolution off.
+ */
+@Component
+public class ClientAddressResolver {
+
+    /**
+     * Loopback, link-local and private ranges, IPv4 and IPv6; the same ranges Tomcat trusts by default.
+     */
+    static final String DEFAULT_TRUSTED_PROXIES = "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+            + "|192\\.168\\.\\d{1,3}\\.\\d{1,3}"
+            + "|169\\.254\\.\\d{1,3}\\.\\d{1,3}"
+            + "|127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+            + "|172\\.(1[6-9]|2\\d|3[01])\\.\\d{1,3}\\.\\d{1,3}"
+            + "|100\\.(6[4-9]|[7-9]\\d|1[01]\\d|12[0-7])\\.\\d{1,3}\\.\\d{1,3}"
+            + "|0:0:0:0:0:0:0:1|::1|(?i:f[cd][0-9a-f]{2}:.*)";
+
+    @Value("${security.client-address.header:X-Forwarded-For}")
+    private String header;
+
+    @Value("${security.client-address.trusted-proxies:}")
+    private String trustedProxies;
+
+    private Pattern trusted;
+
+    @PostConstruct
+    void init() {
+        trusted = Pattern.compile(trustedProxies == null || trustedProxies.isBlank()
+                ? DEFAULT_TRUSTED_PROXIES : trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (header == null || header.isBlank() || !isTrusted(remoteAddress)) {
+            return remoteAddress;
+        }
+        String forwarded = request.getHeader(header);
+        if (forwarded == null) {
+            return remoteAddress;
+        }
+
+        String client = remoteAddress;
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        return address != null && trusted.matcher(address).matches();
+    }
+}
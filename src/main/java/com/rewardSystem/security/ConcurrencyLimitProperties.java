@@ -0,0 +1,46 @@
+package com.rewardSystem.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive concurrency budgets, bound from {@code concurrency-limit.*}.
+ *
+ * Each budget has its own {@link AdaptiveConcurrencyLimiter}; a request counts against the first
+ * budget with a matching path pattern. Requests matching no budget are not limited.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private List<Budget> budgets = new ArrayList<>();
+
+    @Data
+    public static class Budget {
+
+        private String name;
+
+        /** Path patterns, e.g. {@code /v1/api/rewards/**}. */
+        private List<String> paths = new ArrayList<>();
+
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 100;
+
+        /** How much slower than the no-load latency a window may be before the limit backs off. */
+        private double tolerance = 2.0;
+
+        /** Factor applied to the limit on backoff. */
+        private double backoffRatio = 0.8;
+
+        /** Completed requests per limit adjustment. */
+        private int windowSize = 20;
+    }
+}
@@ -0,0 +1,54 @@
+package com.rewardSystem.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BCryptPasswordEncoder} that writes new hashes with {@code cost} and asks for re-encoding
+ * when a stored hash was written with a cost outside {@code [minAcceptedCost, maxAcceptedCost]},
+ * lower or higher. The stock encoder only upgrades, which would leave hashes from a faster host too
+ * slow to verify on a slower one. The band is the same on every host, so hashes written by one
+ * instance are not rewritten by the next.
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int cost;
+    private final int minAcceptedCost;
+    private final int maxAcceptedCost;
+
+    public CostAwareBCryptPasswordEncoder(int cost) {
+        this(cost, cost, cost);
+    }
+
+    public CostAwareBCryptPasswordEncoder(int cost, int minAcceptedCost, int maxAcceptedCost) {
+        super(cost);
+        if (cost < minAcceptedCost || cost > maxAcceptedCost) {
+            throw new IllegalArgumentException("BCrypt cost " + cost + " is outside the accepted range ["
+                    + minAcceptedCost + ", " + maxAcceptedCost + "]");
+        }
+        this.cost = cost;
+        this.minAcceptedCost = minAcceptedCost;
+        this.maxAcceptedCost = maxAcceptedCost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+        }
+        int storedCost = Integer.parseInt(matcher.group(1));
+        return storedCost < minAcceptedCost || storedCost > maxAcceptedCost;
+    }
+}
@@ -1,57 +1,127 @@
 package com.rewardSystem.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.rewardSystem.entity.User;
+import com.rewardSystem.entity.UserSavedEvent;
 import com.rewardSystem.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * Loads users for Spring Security through a bounded, time-limited cache.
+ *
+ * The cache holds an immutable {@link UserSnapshot} rather than the {@link UserDetails} handed to
+ * callers: the authentication manager erases credentials on the returned object, so every call gets
+ * a fresh instance. Concurrent misses for the same username share one database load, and an entry is
+ * dropped as soon as the user is saved. Hit and miss counts are published as
+ * {@code cache.gets{cache="user-details"}}.
+ *
+ * As a {@link UserDetailsPasswordService} it stores the re-encoded password after a successful
+ * login whose hash was written with an outdated encoding or BCrypt cost.
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService, MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${security.user-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${security.user-cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    private Cache<String, UserSnapshot> users;
+
+    @PostConstruct
+    void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         logger.debug("Loading user details for username: {}", username);
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> {
-                    logger.warn("User not found with username: {}", username);
-                    return new UsernameNotFoundException("User not found with username: " + username);
-                });
+        UserSnapshot user = users.get(username, this::fetch);
+        if (user == null) {
+            logger.warn("User not found with username: {}", username);
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
 
-        if (!user.getEnabled()) {
+        if (!user.enabled()) {
             logger.warn("User account is disabled: {}", username);
             throw new UsernameNotFoundException("User account is disabled: " + username);
         }
 
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(user.getRole().toString()));
+        logger.debug("User details loaded successfully for username: {} with role: {}", username, user.role());
 
-        logger.debug("User details loaded successfully for username: {} with role: {}", username, user.getRole());
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(user.role().toString()));
+        return new AuthenticatedUser(user.username(), user.password(), user.enabled(),
+                authorities, user.tokenVersion());
+    }
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.getEnabled())
-                .build();
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "User not found with username: " + userDetails.getUsername()));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        logger.info("Re-encoded stored password for username: {}", user.getUsername());
+
+        return new AuthenticatedUser(user.getUsername(), newPassword, userDetails.isEnabled(),
+                userDetails.getAuthorities(), user.getTokenVersion() == null ? 0L : user.getTokenVersion());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        logger.debug("Evicting cached user details for username: {}", event.username());
+        users.invalidate(event.username());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "user-details");
     }
-}
 
+    private UserSnapshot fetch(String username) {
+        return userRepository.findByUsername(username).map(UserSnapshot::of).orElse(null);
+    }
+
+    /**
+     * Immutable copy of the columns needed to authenticate a user.
+     */
+    record UserSnapshot(String username, String password, boolean enabled, User.UserRole role, long tokenVersion) {
+
+        static UserSnapshot of(User user) {
+            return new UserSnapshot(user.getUsername(), user.getPassword(),
+                    Boolean.TRUE.equals(user.getEnabled()), user.getRole(),
+                    user.getTokenVersion() == null ? 0L : user.getTokenVersion());
+        }
+    }
+}
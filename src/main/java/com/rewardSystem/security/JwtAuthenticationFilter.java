@@ -1,5 +1,7 @@
 package com.rewardSystem.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +18,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -24,10 +28,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private JwtTokenProvider tokenProvider;
     private UserDetailsService userDetailsService;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private TokenRevocationList tokenRevocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   TokenRevocationList tokenRevocationList) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Override
@@ -36,20 +46,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                Claims claims = tokenProvider.parseAndVerify(jwt);
+                String username = claims.getSubject();
                 logger.debug("JWT token validated for user: {}", username);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = resolveUser(claims);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("Authentication set in SecurityContext for user: {}", username);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("Authentication set in SecurityContext for user: {}", username);
+                }
             }
+        } catch (JwtException e) {
+            logger.warn("Rejected JWT token: {}", e.getMessage());
         } catch (Exception e) {
             logger.error("Could not set user authentication in security context", e);
         }
@@ -57,6 +71,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal from the token's role and version claims, checked against the in-memory
+     * {@link TokenVersionRegistry}. Tokens issued without those claims fall back to loading the user.
+     *
+     * @return the principal, or {@code null} if the token has been revoked or superseded
+     */
+    private UserDetails resolveUser(Claims claims) {
+        String username = claims.getSubject();
+        if (claims.getId() != null && tokenRevocationList.isRevoked(claims.getId())) {
+            logger.warn("Rejected revoked JWT token for user: {}", username);
+            return null;
+        }
+
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        Long version = claims.get(JwtTokenProvider.VERSION_CLAIM, Long.class);
+
+        if (role == null || version == null) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+
+        if (!tokenVersionRegistry.isCurrent(username, role, version)) {
+            logger.warn("Rejected superseded JWT token for user: {}", username);
+            return null;
+        }
+        return new AuthenticatedUser(username, "", true, List.of(new SimpleGrantedAuthority(role)), version);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
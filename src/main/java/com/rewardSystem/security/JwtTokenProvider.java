@@ -1,80 +1,168 @@
 package com.rewardSystem.security;
 
+import com.rewardSystem.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies JWT access tokens.
+ *
+ * The signing key and the parser are built once at startup; both are immutable and thread-safe.
+ * Verified claims are kept in a small bounded cache keyed by the raw token, so a client that sends
+ * the same token on consecutive requests pays for the HMAC check only once. A cached entry never
+ * outlives the token's own expiry nor {@code jwt.verified-cache.ttl-seconds}; a
+ * {@code jwt.verified-cache.max-size} of 0 disables the cache.
+ */
 @Component
+@ImportRuntimeHints(JwtRuntimeHints.class)
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    /**
+     * Claim holding the user's role, e.g. {@code ROLE_ADMIN}.
+     */
+    public static final String ROLE_CLAIM = "role";
+
+    /**
+     * Claim holding the user's token version at issue time.
+     */
+    public static final String VERSION_CLAIM = "ver";
+
     @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidationPurpose12345}")
     private String jwtSecret;
 
     @Value("${jwt.expiration:86400000}")
     private int jwtExpirationMs;
 
-    public String generateToken(Authentication authentication) {
-        logger.debug("Generating JWT token for user: {}", authentication.getName());
-
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(verifiedCacheTtlSeconds)))
+                .build();
+        logger.debug("JWT provider initialised with a verified-token cache of {} entries", verifiedCacheMaxSize);
+    }
 
-        String token = Jwts.builder()
-                .subject(authentication.getName())
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+    /**
+     * Issues a token for a freshly authenticated principal, embedding its role and, when the
+     * principal is an {@link AuthenticatedUser}, its token version.
+     */
+    public String generateToken(Authentication authentication) {
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
+        Long version = authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.getTokenVersion() : null;
+        return buildToken(authentication.getName(), role, version);
+    }
 
-        logger.debug("JWT token generated successfully for user: {}", authentication.getName());
-        return token;
+    /**
+     * Issues a token carrying the role and token version of {@code user}.
+     */
+    public String generateToken(User user) {
+        return buildToken(user.getUsername(), user.getRole().name(),
+                user.getTokenVersion() == null ? 0L : user.getTokenVersion());
     }
 
+    /**
+     * Issues a token without role or version claims; such tokens are authorised by loading the
+     * user on every request.
+     */
     public String generateTokenFromUsername(String username) {
-        logger.debug("Generating JWT token for username: {}", username);
+        return buildToken(username, null, null);
+    }
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private String buildToken(String username, String role, Long version) {
+        logger.debug("Generating JWT token for username: {}", username);
 
-        String token = Jwts.builder()
+        Date now = new Date();
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtExpirationMs));
+        if (role != null && version != null) {
+            builder.claim(ROLE_CLAIM, role).claim(VERSION_CLAIM, version);
+        }
+        String token = builder.signWith(signingKey, SignatureAlgorithm.HS512).compact();
 
         logger.debug("JWT token generated successfully for username: {}", username);
         return token;
     }
 
-    public String getUsernameFromToken(String token) {
-        logger.trace("Extracting username from JWT token");
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
-    }
+    /**
+     * Verifies the signature and expiry of {@code token} and returns its claims.
+     *
+     * @throws JwtException             if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseAndVerify(String token) {
+        if (verifiedCacheMaxSize <= 0) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
 
-    private Claims getClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+        }
 
-        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
+    public String getUsernameFromToken(String token) {
+        logger.trace("Extracting username from JWT token");
+        return parseAndVerify(token).getSubject();
+    }
+
+    /**
+     * Checks only the signature and expiry; revocation and the token version are checked by
+     * {@link JwtAuthenticationFilter} and {@code AuthenticationService#validateToken}.
+     */
     public boolean validateToken(String token) {
         try {
             logger.trace("Validating JWT token");
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-            Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
+            parseAndVerify(token);
             logger.debug("JWT token is valid");
             return true;
         } catch (IllegalArgumentException e) {
@@ -93,12 +181,48 @@ public class JwtTokenProvider {
 
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-            return claims.getExpiration().before(new Date());
+            return isExpired(parseAndVerify(token));
         } catch (Exception e) {
             logger.error("Error checking token expiration: {}", e.getMessage());
             return true;
         }
     }
-}
 
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    /**
+     * Expires a cache entry at the token's {@code exp} claim or after {@code maxTtlNanos},
+     * whichever comes first.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxTtlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
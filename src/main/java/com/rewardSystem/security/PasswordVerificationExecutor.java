@@ -0,0 +1,134 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification on a dedicated, bounded pool instead of the servlet request threads.
+ *
+ * The pool has one thread per core by default and a short queue; when both are full the task is
+ * rejected straight away with {@link ServiceUnavailableException} (503) rather than tying up another
+ * request thread. Each client (normally the address from {@link ClientAddressResolver}, which looks
+ * past a trusted proxy) may additionally have only
+ * {@code security.password-verification.max-in-flight-per-client} verifications queued or running,
+ * so a single noisy client gets {@link TooManyRequestsException} (429) before it can fill the queue.
+ */
+@Component
+public class PasswordVerificationExecutor implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordVerificationExecutor.class);
+
+    @Value("${security.password-verification.threads:0}")
+    private int threads;
+
+    @Value("${security.password-verification.queue-capacity:0}")
+    private int queueCapacity;
+
+    @Value("${security.password-verification.max-in-flight-per-client:2}")
+    private int maxInFlightPerClient;
+
+    @Value("${security.password-verification.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final ConcurrentMap<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 4;
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password verification pool started with {} threads and a queue of {}", poolSize, capacity);
+    }
+
+    /**
+     * Runs {@code task} on the verification pool and waits for its result. Runtime exceptions thrown
+     * by the task, such as authentication failures, are rethrown unchanged.
+     *
+     * @param clientKey identifies the caller for per-client fairness, e.g. the client address
+     * @throws TooManyRequestsException    if the client already has too many verifications in flight
+     * @throws ServiceUnavailableException if the pool is saturated or the task does not finish in time
+     */
+    public <T> T execute(String clientKey, Callable<T> task) {
+        if (inFlight.merge(clientKey, 1, Integer::sum) > maxInFlightPerClient) {
+            release(clientKey);
+            logger.warn("Too many concurrent logins from client: {}", clientKey);
+            throw new TooManyRequestsException("Too many concurrent login attempts");
+        }
+
+        try {
+            Future<T> future;
+            try {
+                future = executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Password verification pool saturated, rejecting login from client: {}", clientKey);
+                throw new ServiceUnavailableException("Login capacity exhausted, please retry shortly");
+            }
+            return await(future);
+        } finally {
+            release(clientKey);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "password-verification", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Login timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Login interrupted", e);
+        }
+    }
+
+    private void release(String clientKey) {
+        inFlight.computeIfPresent(clientKey, (key, count) -> count == 1 ? null : count - 1);
+    }
+}
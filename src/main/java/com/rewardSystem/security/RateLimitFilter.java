@@ -0,0 +1,66 @@
+package com.rewardSystem.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardSystem.dto.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link RateLimiter} after {@link JwtAuthenticationFilter}, so authenticated requests are
+ * limited per principal and the rest per client address from {@link ClientAddressResolver}, which
+ * looks past trusted proxies. Rejected requests get {@code 429} with a {@code Retry-After} header.
+ *
+ * Not a bean on purpose: Spring Boot would also register it as a servlet filter, where it would run
+ * before authentication.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ClientAddressResolver clientAddressResolver;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ClientAddressResolver clientAddressResolver,
+                           ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.clientAddressResolver = clientAddressResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String clientAddress = clientAddressResolver.resolve(request);
+
+        long waitNanos = rateLimiter.acquire(path, authentication, clientAddress);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+        logger.warn("Rate limit exceeded for {} on {}",
+                authentication != null ? authentication.getName() : clientAddress, path);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(429, "TOO_MANY_REQUESTS", "Rate limit exceeded, please retry later", path));
+    }
+}
@@ -0,0 +1,59 @@
+package com.rewardSystem.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request rate limits, bound from {@code rate-limit.*}.
+ *
+ * Rules are checked in order and the first one whose path pattern and role match applies, so more
+ * specific rules go first. Requests matching no rule are not limited.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the number of buckets kept in memory.
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * Buckets idle for this long are dropped; an idle bucket is full again anyway.
+     */
+    private long idleExpirySeconds = 600;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum KeyType {
+        /** The authenticated username, or the remote address for anonymous requests. */
+        PRINCIPAL,
+        /** Always the remote address. */
+        IP
+    }
+
+    @Data
+    public static class Rule {
+
+        /** Path pattern, e.g. {@code /v1/api/**}. */
+        private String path;
+
+        /** Authority the principal must hold, e.g. {@code ROLE_ADMIN}; empty matches everyone. */
+        private String role;
+
+        private KeyType key = KeyType.PRINCIPAL;
+
+        /** Sustained rate. */
+        private double permitsPerSecond;
+
+        /** Requests allowed back to back before the sustained rate applies. */
+        private int burst = 1;
+    }
+}
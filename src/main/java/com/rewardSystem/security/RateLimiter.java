@@ -0,0 +1,131 @@
+package com.rewardSystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets for the rules in {@link RateLimitProperties}.
+ *
+ * Buckets live in a bounded Caffeine cache that drops idle entries, keyed by rule and client, so
+ * lookups of existing buckets take no lock and a flood of distinct clients cannot grow memory
+ * without bound. Rejections are counted as {@code rate_limit.rejected}.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final LongSupplier clock;
+    private Counter rejected;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.clock = clock;
+        this.rules = properties.getRules().stream().map(CompiledRule::of).toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleExpirySeconds()))
+                .recordStats()
+                .build();
+        logger.info("Rate limiting {} with {} rules", enabled ? "enabled" : "disabled", rules.size());
+    }
+
+    /**
+     * Takes a permit for the request.
+     *
+     * @param path           request path without the context path
+     * @param authentication current authentication, may be {@code null}
+     * @param remoteAddress  client address used for IP-keyed rules and anonymous requests
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a permit is available
+     */
+    public long acquire(String path, Authentication authentication, String remoteAddress) {
+        if (!enabled || rules.isEmpty()) {
+            return 0;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule rule = rules.get(i);
+            if (!rule.pattern().matches(pathContainer)
+                    || (rule.role() != null && !(authenticated && hasAuthority(authentication, rule.role())))) {
+                continue;
+            }
+
+            String client = rule.key() == RateLimitProperties.KeyType.PRINCIPAL && authenticated
+                    ? authentication.getName()
+                    : remoteAddress;
+            TokenBucket bucket = buckets.get(new BucketKey(i, client), key -> new TokenBucket());
+            long waitNanos = bucket.tryAcquire(clock.getAsLong(), rule.intervalNanos(), rule.toleranceNanos());
+            if (waitNanos > 0 && rejected != null) {
+                rejected.increment();
+            }
+            return waitNanos;
+        }
+        return 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "rate-limit-buckets");
+        rejected = Counter.builder("rate_limit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .register(registry);
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String role) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (role.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record BucketKey(int rule, String client) {
+    }
+
+    private record CompiledRule(PathPattern pattern, String role, RateLimitProperties.KeyType key,
+                                long intervalNanos, long toleranceNanos) {
+
+        static CompiledRule of(RateLimitProperties.Rule rule) {
+            if (rule.getPermitsPerSecond() <= 0 || rule.getBurst() < 1) {
+                throw new IllegalStateException("Rate limit rule for " + rule.getPath()
+                        + " needs permits-per-second > 0 and burst >= 1");
+            }
+            long interval = Math.max(1, Math.round(1_000_000_000d / rule.getPermitsPerSecond()));
+            return new CompiledRule(PathPatternParser.defaultInstance.parse(rule.getPath()),
+                    StringUtils.hasText(rule.getRole()) ? rule.getRole() : null,
+                    rule.getKey(), interval, interval * rule.getBurst());
+        }
+    }
+}
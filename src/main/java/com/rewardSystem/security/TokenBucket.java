@@ -0,0 +1,36 @@
+package com.rewardSystem.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp (the generic cell rate algorithm).
+ *
+ * Instead of a token count and a refill time, the bucket stores the theoretical arrival time of the
+ * next request. A request is admitted if pushing that time forward by one emission interval keeps it
+ * within the burst tolerance of now. Updates are a single compare-and-set, so concurrent requests on
+ * the same bucket never block each other.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param nowNanos        current time in nanoseconds
+     * @param intervalNanos   time to earn one permit
+     * @param toleranceNanos  burst size multiplied by {@code intervalNanos}
+     * @return 0 if the request is admitted, otherwise the nanoseconds until it would be
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (current == Long.MIN_VALUE ? nowNanos : Math.max(current, nowNanos)) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.RevokedToken;
+import com.rewardSystem.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Revoked token ids ({@code jti}), persisted in {@code revoked_tokens} and mirrored in memory.
+ *
+ * {@link #isRevoked(String)} first asks a {@link BloomFilter}, which answers "definitely not revoked"
+ * for almost every live token without touching the exact map; only Bloom hits are confirmed against
+ * the map. Bloom filters cannot forget, so the filter is rebuilt from the map whenever expired
+ * entries are purged. Revocations made on other instances are picked up by a periodic sync.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries = 100_000;
+
+    @Value("${jwt.revocation.sync-overlap-ms:5000}")
+    private long syncOverlapMs = 5000;
+
+    private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter = new BloomFilter(expectedEntries, FALSE_POSITIVE_PROBABILITY);
+    private volatile long lastSyncMillis;
+
+    /**
+     * Returns {@code true} if the token with this id has been revoked and has not yet expired.
+     */
+    public boolean isRevoked(String jti) {
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Persists the revocation of a token and applies it to this instance immediately.
+     */
+    public void revoke(String jti, String username, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        revokedTokenRepository.save(new RevokedToken(jti, username, expiresAtMillis, now));
+        add(jti, expiresAtMillis);
+        logger.info("Revoked token {} for user: {}", jti, username);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        Collection<RevokedToken> active = revokedTokenRepository.findByExpiresAtGreaterThan(startedAt);
+        synchronized (writeLock) {
+            active.forEach(token -> revoked.put(token.getJti(), token.getExpiresAt()));
+            rebuild();
+        }
+        lastSyncMillis = startedAt;
+        logger.info("Loaded {} revoked tokens", active.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:10000}")
+    public void sync() {
+        long startedAt = System.currentTimeMillis();
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtGreaterThanEqual(lastSyncMillis - syncOverlapMs)) {
+            add(token.getJti(), token.getExpiresAt());
+        }
+        lastSyncMillis = startedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        synchronized (writeLock) {
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            rebuild();
+        }
+        logger.debug("Purged {} expired revoked tokens, {} remain", deleted, revoked.size());
+    }
+
+    /**
+     * Number of unexpired revocations held in memory.
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private void add(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        synchronized (writeLock) {
+            revoked.put(jti, expiresAtMillis);
+            bloomFilter.put(jti);
+        }
+    }
+
+    /**
+     * Replaces the Bloom filter with one built from the exact map. Callers hold {@link #writeLock}
+     * so no revocation can slip in between the copy and the swap.
+     */
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_PROBABILITY);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.rewardSystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.entity.UserSavedEvent;
+import com.rewardSystem.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-memory view of each user's role, status and token version, used to check the claims of an
+ * incoming JWT without reading the users table.
+ *
+ * Entries are loaded lazily on first sight of a username, updated immediately when a user is saved
+ * on this instance ({@link UserSavedEvent}), and refreshed periodically from rows whose
+ * {@code updated_at} moved, which picks up changes made by other instances.
+ *
+ * At most {@code jwt.token-version.max-size} users are held, and an entry is dropped
+ * {@code jwt.token-version.ttl-seconds} after it was last written. Deleting a row leaves no
+ * {@code updated_at} to refresh from, so a deleted user's tokens are rejected once its entry expires.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.token-version.refresh-overlap-ms:5000}")
+    private long refreshOverlapMs;
+
+    @Value("${jwt.token-version.max-size:100000}")
+    private long maxSize;
+
+    @Value("${jwt.token-version.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, UserSavedEvent> states;
+    private volatile long lastRefreshMillis = System.currentTimeMillis();
+
+    @PostConstruct
+    void init() {
+        states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Returns {@code true} if a token carrying {@code role} and {@code tokenVersion} is still
+     * acceptable for {@code username}: the user exists, is enabled, has that role and has not
+     * bumped its token version since the token was issued.
+     */
+    public boolean isCurrent(String username, String role, long tokenVersion) {
+        // Unknown users are not cached, so they are looked up again on every check
+        UserSavedEvent state = states.get(username, this::load);
+        if (state == null) {
+            return false;
+        }
+        return state.enabled()
+                && state.tokenVersion() == tokenVersion
+                && state.role() != null && state.role().name().equals(role);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        logger.debug("Updating token state for user: {}", event.username());
+        states.put(event.username(), event);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-version.refresh-interval-ms:30000}")
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        List<User> changed = userRepository.findByUpdatedAtGreaterThanEqual(lastRefreshMillis - refreshOverlapMs);
+        for (User user : changed) {
+            states.put(user.getUsername(), UserSavedEvent.of(user));
+        }
+        lastRefreshMillis = startedAt;
+        if (!changed.isEmpty()) {
+            logger.debug("Refreshed token state for {} users", changed.size());
+        }
+    }
+
+    private UserSavedEvent load(String username) {
+        return userRepository.findByUsername(username)
+                .map(UserSavedEvent::of)
+                .orElse(null);
+    }
+}
@@ -7,14 +7,21 @@ import com.rewardSystem.entity.User;
 import com.rewardSystem.exception.DataProcessingException;
 import com.rewardSystem.repository.UserRepository;
 import com.rewardSystem.security.JwtTokenProvider;
+import com.rewardSystem.security.PasswordVerificationExecutor;
+import com.rewardSystem.security.TokenRevocationList;
+import com.rewardSystem.security.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -35,32 +42,58 @@ public class AuthenticationService {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private PasswordVerificationExecutor passwordVerificationExecutor;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
     @Value("${jwt.expiration:86400000}")
     private int jwtExpirationMs;
 
 
     public LoginResponse login(LoginRequest loginRequest) throws AuthenticationException {
+        return login(loginRequest, "unknown");
+    }
+
+    /**
+     * Authenticates on the bounded {@link PasswordVerificationExecutor} so BCrypt never runs on a
+     * request thread. The response is built from the authenticated principal, so the user is read
+     * only once.
+     *
+     * @param clientKey identifies the caller for per-client fairness, normally the client address
+     *                  from {@link com.rewardSystem.security.ClientAddressResolver}
+     */
+    public LoginResponse login(LoginRequest loginRequest, String clientKey) throws AuthenticationException {
         logger.info("Attempting login for user: {}", loginRequest.getUsername());
 
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getUsername(),
-                            loginRequest.getPassword()
-                    )
-            );
+            Authentication authentication = passwordVerificationExecutor.execute(clientKey,
+                    () -> authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(
+                                    loginRequest.getUsername(),
+                                    loginRequest.getPassword()
+                            )
+                    ));
 
             String token = jwtTokenProvider.generateToken(authentication);
-            User user = userRepository.findByUsername(loginRequest.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            String role = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .findFirst()
+                    .orElse(null);
 
-            // Update last login timestamp
-            user.setLastLogin(System.currentTimeMillis());
-            userRepository.save(user);
+            // Update last login timestamp; written behind in batches
+            lastLoginRecorder.record(authentication.getName(), System.currentTimeMillis());
 
             logger.info("User logged in successfully: {}", loginRequest.getUsername());
 
-            return new LoginResponse(token, user.getUsername(), user.getRole().toString(), jwtExpirationMs);
+            return new LoginResponse(token, authentication.getName(), role, jwtExpirationMs);
 
         } catch (AuthenticationException e) {
             logger.error("Authentication failed for user: {}", loginRequest.getUsername());
@@ -77,17 +110,7 @@ public class AuthenticationService {
             throw new DataProcessingException(validationError);
         }
 
-        // Check if user already exists
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            logger.warn("Username already exists: {}", registerRequest.getUsername());
-            throw new DataProcessingException("Username already exists");
-        }
-
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            logger.warn("Email already exists: {}", registerRequest.getEmail());
-            throw new DataProcessingException("Email already exists");
-        }
-
+        // Duplicates are rejected by the unique constraints on the single insert below
         try {
             // Create new user
             User user = new User();
@@ -105,23 +128,85 @@ public class AuthenticationService {
             logger.info("User registered successfully: {}", registerRequest.getUsername());
 
             // Generate token for newly registered user
-            String token = jwtTokenProvider.generateTokenFromUsername(savedUser.getUsername());
+            String token = jwtTokenProvider.generateToken(savedUser);
 
             return new LoginResponse(token, savedUser.getUsername(), savedUser.getRole().toString(),
                     jwtExpirationMs, "User registered successfully");
 
+        } catch (DataIntegrityViolationException e) {
+            String message = UserConstraintViolations.duplicateMessage(e);
+            if (message == null) {
+                // The database error names tables and constraints, so it is logged but not returned
+                logger.error("Registration failed for user: {}", registerRequest.getUsername(), e);
+                throw new DataProcessingException("Registration failed");
+            }
+            logger.warn("{}: {}", message, registerRequest.getUsername());
+            throw new DataProcessingException(message);
         } catch (IllegalArgumentException e) {
             logger.error("Invalid role provided: {}", registerRequest.getRole());
             throw new DataProcessingException("Invalid role: " + registerRequest.getRole());
         } catch (Exception e) {
-            logger.error("Registration failed: {}", e.getMessage());
-            throw new DataProcessingException("Registration failed: " + e.getMessage());
+            logger.error("Registration failed for user: {}", registerRequest.getUsername(), e);
+            throw new DataProcessingException("Registration failed");
         }
     }
 
+    /**
+     * Revokes {@code token} so it is rejected on every instance until it expires.
+     */
+    public void logout(String token) throws DataProcessingException {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseAndVerify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("Logout with invalid token: {}", e.getMessage());
+            throw new DataProcessingException("Invalid token");
+        }
+
+        if (claims.getId() == null) {
+            logger.warn("Logout with token without id for user: {}", claims.getSubject());
+            throw new DataProcessingException("Token cannot be revoked");
+        }
+
+        tokenRevocationList.revoke(claims.getId(), claims.getSubject(), claims.getExpiration().getTime());
+        logger.info("User logged out: {}", claims.getSubject());
+    }
+
+    /**
+     * Whether {@code token} would authenticate a request: besides a valid signature and expiry it must
+     * not have been revoked by a logout, and its role and version claims must still match the user,
+     * as {@link com.rewardSystem.security.JwtAuthenticationFilter} checks them.
+     */
     public boolean validateToken(String token) {
         logger.trace("Validating token");
-        return jwtTokenProvider.validateToken(token);
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseAndVerify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Invalid token: {}", e.getMessage());
+            return false;
+        }
+
+        String username = claims.getSubject();
+        if (claims.getId() != null && tokenRevocationList.isRevoked(claims.getId())) {
+            logger.debug("Token for user {} has been revoked", username);
+            return false;
+        }
+
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        Long version = claims.get(JwtTokenProvider.VERSION_CLAIM, Long.class);
+        if (role == null || version == null) {
+            // Tokens issued without those claims stay valid while the user exists and is enabled
+            return userRepository.findByUsername(username)
+                    .map(user -> Boolean.TRUE.equals(user.getEnabled()))
+                    .orElse(false);
+        }
+
+        boolean current = tokenVersionRegistry.isCurrent(username, role, version);
+        if (!current) {
+            logger.debug("Token for user {} has been superseded", username);
+        }
+        return current;
     }
 
     public String getUsernameFromToken(String token) {
@@ -0,0 +1,200 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight front for {@link RewardServiceImpl}.
+ *
+ * Concurrent calls with the same parameters share one computation: the first caller starts it on a
+ * small dedicated pool and later callers attach to the same {@link CompletableFuture} until it
+ * completes. Nothing is cached; a call arriving after completion starts a fresh computation.
+ *
+ * A caller that is interrupted or waits longer than {@code rewards.single-flight.timeout-ms} detaches.
+ * When the last caller has detached the computation is cancelled and its worker interrupted.
+ * Shared results are unmodifiable.
+ */
+@Service
+@Primary
+public class CoalescingRewardService implements RewardService, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingRewardService.class);
+
+    // Binding the metrics builds this bean at boot; the pipeline and its repositories wait for the first call
+    @Autowired
+    @Qualifier("rewardServiceImpl")
+    @Lazy
+    private RewardService delegate;
+
+    @Value("${rewards.single-flight.threads:4}")
+    private int threads;
+
+    @Value("${rewards.single-flight.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${rewards.single-flight.timeout-ms:60000}")
+    private long timeoutMs;
+
+    private final ConcurrentMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rewards-compute-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<RewardPoints> findAllRewards() {
+        return coalesce(new Key("all", null, null), delegate::findAllRewards);
+    }
+
+    @Override
+    public List<RewardPoints> findRewardsForPeriod(YearMonth from, YearMonth to) {
+        return coalesce(new Key("period", from, to), () -> delegate.findRewardsForPeriod(from, to));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("rewards.single_flight.calls", executed, AtomicLong::get)
+                .description("Rewards calls by whether they started a computation or joined one in flight")
+                .tag("outcome", "executed")
+                .register(registry);
+        FunctionCounter.builder("rewards.single_flight.calls", coalesced, AtomicLong::get)
+                .tag("outcome", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("rewards.single_flight.cancelled", cancelled, AtomicLong::get)
+                .description("Computations cancelled because every caller went away")
+                .register(registry);
+        Gauge.builder("rewards.single_flight.in_flight", inFlight, ConcurrentMap::size)
+                .register(registry);
+    }
+
+    private List<RewardPoints> coalesce(Key key, Supplier<List<RewardPoints>> loader) {
+        Flight flight = join(key, loader);
+        try {
+            return flight.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Rewards computation failed", e.getCause());
+        } catch (TimeoutException e) {
+            leave(key, flight);
+            throw new ServiceUnavailableException("Rewards computation timed out");
+        } catch (InterruptedException e) {
+            leave(key, flight);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Rewards request interrupted", e);
+        }
+    }
+
+    /**
+     * Attaches to the flight for {@code key}, starting one if none is running or the running one is
+     * already being cancelled.
+     */
+    private Flight join(Key key, Supplier<List<RewardPoints>> loader) {
+        while (true) {
+            Flight existing = inFlight.get(key);
+            if (existing != null) {
+                if (existing.waiters.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0) {
+                    coalesced.incrementAndGet();
+                    logger.debug("Joined in-flight rewards computation for {}", key);
+                    return existing;
+                }
+                inFlight.remove(key, existing);
+                continue;
+            }
+
+            Flight flight = new Flight();
+            if (inFlight.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            executed.incrementAndGet();
+            flight.result.whenComplete((rewards, failure) -> inFlight.remove(key, flight));
+            try {
+                flight.task = executor.submit(() -> {
+                    try {
+                        flight.result.complete(Collections.unmodifiableList(loader.get()));
+                    } catch (Throwable t) {
+                        flight.result.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.warn("Rewards computation pool saturated, rejecting {}", key);
+                flight.result.completeExceptionally(
+                        new ServiceUnavailableException("Rewards computation capacity exhausted, please retry shortly"));
+            }
+            return flight;
+        }
+    }
+
+    private void leave(Key key, Flight flight) {
+        if (flight.waiters.decrementAndGet() == 0) {
+            inFlight.remove(key, flight);
+            if (flight.result.cancel(false)) {
+                Future<?> task = flight.task;
+                if (task != null) {
+                    task.cancel(true);
+                }
+                cancelled.incrementAndGet();
+                logger.info("Cancelled rewards computation for {}, no callers left", key);
+            }
+        }
+    }
+
+    private record Key(String operation, YearMonth from, YearMonth to) {
+    }
+
+    private static final class Flight {
+        final CompletableFuture<List<RewardPoints>> result = new CompletableFuture<>();
+        final AtomicInteger waiters = new AtomicInteger(1);
+        volatile Future<?> task;
+    }
+}
@@ -0,0 +1,182 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the window from the off-heap columns of {@link ColumnarRewardWindow} without touching the
+ * database or creating an object per transaction.
+ *
+ * When customer ids are dense, which they are for sequential keys, points are summed in a single pass
+ * into a flat array indexed by customer and month, with the month of each day looked up in a table
+ * built once per run. Sparse ids fall back to {@link RewardAccumulator}. Amounts are whole cents, so
+ * the point thresholds are exact integer comparisons. A negative amount fails the run, as in every
+ * other engine.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rewards.columnar", name = "enabled", havingValue = "true")
+public class ColumnarRewardEngine implements RewardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarRewardEngine.class);
+
+    static final String NAME = "columnar";
+
+    /**
+     * Longest span of days the month table covers; wider spans, from far future-dated rows, take the
+     * accumulator path.
+     */
+    private static final int MAX_TABLE_DAYS = 400;
+
+    @Autowired
+    private ColumnarRewardWindow window;
+
+    @Autowired(required = false)
+    private RewardPipelineMetrics pipelineMetrics = RewardPipelineMetrics.noop();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Whether the window from {@code windowStart} is loaded and can be served by this engine.
+     */
+    boolean covers(LocalDate windowStart) {
+        return window.snapshot(windowStart) != null;
+    }
+
+    @Override
+    public List<RewardPoints> computeRewards(LocalDate windowStart) {
+        TransactionColumns columns = window.snapshot(windowStart);
+        if (columns == null) {
+            throw new ServiceUnavailableException("The columnar reward window is not loaded");
+        }
+
+        long phaseStart = System.nanoTime();
+        int rows = columns.size();
+        int fromDay = (int) windowStart.toEpochDay();
+        // Read after the size, so both bounds cover every row below it
+        int days = columns.maxDay() - fromDay + 1;
+        int minCustomerId = columns.minCustomerId();
+        long customers = (long) columns.maxCustomerId() - minCustomerId + 1;
+        Scan scan = days <= 0
+                ? new Scan(List.of(), 0, 0)
+                : days <= MAX_TABLE_DAYS && customers * 12 <= 4L * rows + 4096
+                ? scanDense(columns, rows, fromDay, days, minCustomerId, (int) customers)
+                : scanSparse(columns, rows, fromDay);
+        pipelineMetrics.record(Phase.COMPUTE, phaseStart);
+        logger.info("Scanned {} columnar transactions, {} inside the window", rows, scan.transactions());
+
+        pipelineMetrics.recordRun(scan.transactions(), scan.rewards().size());
+        pipelineMetrics.recordComputed(scan.transactions(), scan.points());
+        return scan.rewards();
+    }
+
+    /**
+     * Points for a non-negative amount in cents, {@link RewardServiceImpl#calculatePoints} on whole cents.
+     */
+    static int points(long cents) {
+        if (cents > 10_000) {
+            return (int) ((cents - 10_000) / 50) + 50;
+        }
+        if (cents > 5_000) {
+            return (int) ((cents - 5_000) / 100);
+        }
+        return 0;
+    }
+
+    private static Scan scanDense(TransactionColumns columns, int rows, int fromDay, int days,
+                                  int minCustomerId, int customers) {
+        // Each month in the span gets a slot; slotByDay maps a day offset to it
+        byte[] slotByDay = new byte[days];
+        int[] monthOfSlot = new int[12];
+        int[] slotOfMonth = new int[13];
+        Arrays.fill(slotOfMonth, -1);
+        int slots = 0;
+        for (int day = 0; day < days; day++) {
+            int month = LocalDate.ofEpochDay(fromDay + day).getMonthValue();
+            if (slotOfMonth[month] < 0) {
+                monthOfSlot[slots] = month;
+                slotOfMonth[month] = slots++;
+            }
+            slotByDay[day] = (byte) slotOfMonth[month];
+        }
+
+        int[] points = new int[customers * slots];
+        short[] seen = new short[customers];
+        long transactions = 0;
+        long pointsAwarded = 0;
+        for (int row = 0; row < rows; row++) {
+            int day = columns.epochDay(row) - fromDay;
+            if (day < 0 || day >= days) {
+                continue;
+            }
+            int slot = slotByDay[day];
+            long cents = columns.amountCents(row);
+            if (cents < 0) {
+                throw RewardServiceImpl.negativeAmount(columns.customerId(row));
+            }
+            int customer = columns.customerId(row) - minCustomerId;
+            int earned = points(cents);
+            points[customer * slots + slot] += earned;
+            seen[customer] |= (short) (1 << slot);
+            transactions++;
+            pointsAwarded += earned;
+        }
+
+        List<RewardPoints> rewards = new ArrayList<>();
+        for (int customer = 0; customer < customers; customer++) {
+            if (seen[customer] == 0) {
+                continue;
+            }
+            Map<String, Integer> monthlyPoints = new HashMap<>();
+            int total = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if ((seen[customer] & (1 << slot)) != 0) {
+                    int monthPoints = points[customer * slots + slot];
+                    monthlyPoints.put(Month.of(monthOfSlot[slot]).toString(), monthPoints);
+                    total += monthPoints;
+                }
+            }
+            rewards.add(new RewardPoints(minCustomerId + customer, monthlyPoints, total));
+        }
+        return new Scan(rewards, transactions, pointsAwarded);
+    }
+
+    private static Scan scanSparse(TransactionColumns columns, int rows, int fromDay) {
+        RewardAccumulator accumulator = new RewardAccumulator();
+        long pointsAwarded = 0;
+        for (int row = 0; row < rows; row++) {
+            int day = columns.epochDay(row);
+            if (day < fromDay) {
+                continue;
+            }
+            long cents = columns.amountCents(row);
+            if (cents < 0) {
+                throw RewardServiceImpl.negativeAmount(columns.customerId(row));
+            }
+            int earned = points(cents);
+            accumulator.add(columns.customerId(row), LocalDate.ofEpochDay(day).getMonthValue(), 1, earned);
+            pointsAwarded += earned;
+        }
+        return new Scan(accumulator.toRewards(), accumulator.transactions(), pointsAwarded);
+    }
+
+    private record Scan(List<RewardPoints> rewards, long transactions, long points) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.TransactionSavedEvent;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.WindowChecksum;
+import com.rewardSystem.repository.TransactionsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Off-heap copy of the active reward window in {@link TransactionColumns}, served by
+ * {@link ColumnarRewardEngine}. Enabled with {@code rewards.columnar.enabled}.
+ *
+ * The window is loaded before readiness, a week of rows per query, and each transaction inserted on
+ * this instance is appended once its transaction commits ({@link TransactionSavedEvent}). Every
+ * {@code rewards.columnar.maintenance-interval-ms} the days that left the window are compacted away
+ * and {@link WindowChecksum}s (row count, sum of cents, sum of customer ids) are compared with the
+ * database; a mismatch, from inserts on other instances, bulk loads, deletes or updates, triggers a
+ * reload. Each run checks the current week, where new transactions land, and one older week in turn,
+ * so it reads two weeks of the date index rather than the whole window. Rewards can therefore lag
+ * writes to the current week by up to one interval, and writes to older weeks by one interval per
+ * week in the window. An update that only moves a transaction to another day in the same week leaves
+ * the checksums unchanged and is not picked up until the next reload. The checks and loads run in
+ * read-only transactions, so they go to the replica when one is configured. A window larger than
+ * {@code rewards.columnar.max-rows} is not kept at all, and the planner falls back to the database
+ * engines.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rewards.columnar", name = "enabled", havingValue = "true")
+public class ColumnarRewardWindow implements ApplicationRunner, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarRewardWindow.class);
+    private static final int LOAD_CHUNK_DAYS = 7;
+    private static final int MIN_CAPACITY = 1024;
+
+    // Resolved on the first load, so scheduling the maintenance does not build the repositories at boot
+    @Autowired
+    @Lazy
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    @Lazy
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${rewards.columnar.max-rows:50000000}")
+    private long maxRows;
+
+    private final Object writeLock = new Object();
+    private volatile TransactionColumns columns;
+    private volatile boolean started;
+    private int verifyCursor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            reload(RewardServiceImpl.rewardWindowStart());
+        } catch (RuntimeException e) {
+            // The database engines still serve; maintenance retries the load
+            logger.warn("Could not load the columnar reward window: {}", e.getMessage(), e);
+        } finally {
+            started = true;
+        }
+    }
+
+    /**
+     * The columns if they hold every transaction from {@code windowStart} onwards, otherwise
+     * {@code null}. The returned instance never changes size below its current {@code size()}.
+     */
+    TransactionColumns snapshot(LocalDate windowStart) {
+        TransactionColumns current = columns;
+        return current != null && current.firstDay() <= windowStart.toEpochDay() ? current : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionSaved(TransactionSavedEvent event) {
+        synchronized (writeLock) {
+            TransactionColumns current = columns;
+            if (current == null) {
+                return;
+            }
+            columns = append(current, event.customerId(), TransactionColumns.toCents(event.amount()),
+                    (int) event.date().toEpochDay());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rewards.columnar.maintenance-interval-ms:60000}")
+    public void maintain() {
+        if (!started) {
+            return;
+        }
+        LocalDate windowStart = RewardServiceImpl.rewardWindowStart();
+        int startDay = (int) windowStart.toEpochDay();
+        synchronized (writeLock) {
+            TransactionColumns current = columns;
+            if (current != null && current.firstDay() < startDay) {
+                int kept = current.countSince(startDay);
+                columns = current.copy(capacityFor(kept), startDay);
+                logger.info("Compacted the columnar reward window to {} transactions from {}", kept, windowStart);
+            }
+        }
+
+        TransactionColumns current = columns;
+        if (current == null || !inStep(current, windowStart)) {
+            logger.info("Columnar reward window out of step with the database from {}, reloading", windowStart);
+            reload(windowStart);
+        }
+    }
+
+    /**
+     * Compares the current week, open-ended like the last load chunk, and the next older week in turn
+     * with the database.
+     */
+    private boolean inStep(TransactionColumns current, LocalDate windowStart) {
+        int olderWeeks = (int) (ChronoUnit.DAYS.between(windowStart, LocalDate.now()) / LOAD_CHUNK_DAYS);
+        LocalDate currentWeek = windowStart.plusDays((long) olderWeeks * LOAD_CHUNK_DAYS);
+        WindowChecksum recent = readOnly(() -> transactionsRepository.windowChecksumSince(currentWeek));
+        if (!current.checksumBetween((int) currentWeek.toEpochDay(), Integer.MAX_VALUE).equals(recent)) {
+            return false;
+        }
+        if (olderWeeks == 0) {
+            return true;
+        }
+
+        verifyCursor = (verifyCursor + 1) % olderWeeks;
+        LocalDate from = windowStart.plusDays((long) verifyCursor * LOAD_CHUNK_DAYS);
+        LocalDate to = from.plusDays(LOAD_CHUNK_DAYS - 1);
+        WindowChecksum older = readOnly(() -> transactionsRepository.windowChecksumBetween(from, to));
+        return current.checksumBetween((int) from.toEpochDay(), (int) to.toEpochDay()).equals(older);
+    }
+
+    /**
+     * Replaces the columns with the rows from {@code windowStart} onwards. Appends that race with the
+     * reload are corrected by the next maintenance run.
+     */
+    void reload(LocalDate windowStart) {
+        long loadStart = System.nanoTime();
+        long expected = readOnly(() -> transactionsRepository.countByDateGreaterThanEqual(windowStart));
+        if (expected > maxRows) {
+            standDown("the window holds " + expected + " transactions");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        TransactionColumns loaded = new TransactionColumns(capacityFor(expected), (int) windowStart.toEpochDay());
+        for (LocalDate from = windowStart; ; from = from.plusDays(LOAD_CHUNK_DAYS)) {
+            LocalDate to = from.plusDays(LOAD_CHUNK_DAYS - 1);
+            // The last chunk is open-ended so future-dated rows are loaded too
+            boolean last = !to.isBefore(today);
+            LocalDate chunkStart = from;
+            List<TransactionView> chunk = readOnly(() -> last
+                    ? transactionsRepository.findViewsSince(chunkStart)
+                    : transactionsRepository.findViewsBetween(chunkStart, to));
+            for (TransactionView transaction : chunk) {
+                loaded = append(loaded, transaction.customerId(), TransactionColumns.toCents(transaction.amount()),
+                        (int) transaction.date().toEpochDay());
+                if (loaded == null) {
+                    standDown("the window grew past " + maxRows + " transactions while loading");
+                    return;
+                }
+            }
+            if (last) {
+                break;
+            }
+        }
+
+        synchronized (writeLock) {
+            columns = loaded;
+        }
+        logger.info("Loaded {} transactions from {} into the columnar reward window ({} KB off-heap) in {} ms",
+                loaded.size(), windowStart, loaded.offHeapBytes() / 1024, (System.nanoTime() - loadStart) / 1_000_000);
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> query.get());
+    }
+
+    /**
+     * Appends to {@code target}, or to a copy of twice its capacity when it is full.
+     *
+     * @return the columns now holding the row, or {@code null} when that would exceed the row limit
+     */
+    private TransactionColumns append(TransactionColumns target, int customerId, long cents, int epochDay) {
+        if (target.append(customerId, cents, epochDay)) {
+            return target;
+        }
+        long grown = Math.min((long) target.capacity() * 2, rowLimit());
+        if (grown <= target.capacity()) {
+            if (target == columns) {
+                standDown("the window grew past " + maxRows + " transactions");
+            }
+            return null;
+        }
+        TransactionColumns copy = target.copy((int) grown, target.firstDay());
+        copy.append(customerId, cents, epochDay);
+        return copy;
+    }
+
+    private void standDown(String reason) {
+        synchronized (writeLock) {
+            if (columns != null || !started) {
+                logger.warn("Not keeping the columnar reward window: {} (limit {})", reason, maxRows);
+            }
+            columns = null;
+        }
+    }
+
+    private int capacityFor(long rows) {
+        return (int) Math.min(Math.max(MIN_CAPACITY, rows + rows / 4), rowLimit());
+    }
+
+    private long rowLimit() {
+        return Math.min(maxRows, TransactionColumns.MAX_CAPACITY);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rewards.columnar.rows", this, window -> size(window.columns))
+                .description("Transactions held in the columnar reward window")
+                .register(registry);
+        Gauge.builder("rewards.columnar.off-heap", this, window -> offHeapBytes(window.columns))
+                .description("Direct memory reserved by the columnar reward window")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    private static double size(TransactionColumns columns) {
+        return columns == null ? 0 : columns.size();
+    }
+
+    private static double offHeapBytes(TransactionColumns columns) {
+        return columns == null ? 0 : columns.offHeapBytes();
+    }
+}
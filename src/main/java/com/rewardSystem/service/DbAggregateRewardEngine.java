@@ -0,0 +1,64 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.CustomerMonthPoints;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import com.rewardSystem.repository.TransactionsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Lets the database compute and sum the points, returning one row per customer and month. Pays off
+ * when customers have many transactions each, so the aggregate is a small fraction of the rows it
+ * replaces and the per-row work never crosses the network.
+ */
+@Component
+public class DbAggregateRewardEngine implements RewardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbAggregateRewardEngine.class);
+
+    static final String NAME = "db-aggregate";
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired(required = false)
+    private RewardPipelineMetrics pipelineMetrics = RewardPipelineMetrics.noop();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<RewardPoints> computeRewards(LocalDate windowStart) {
+        long phaseStart = System.nanoTime();
+        List<CustomerMonthPoints> aggregates = transactionsRepository.sumPointsByCustomerAndMonthSince(windowStart);
+        pipelineMetrics.record(Phase.FETCH, phaseStart);
+        logger.info("Retrieved {} customer-month aggregates from database", aggregates.size());
+
+        phaseStart = System.nanoTime();
+        RewardAccumulator accumulator = new RewardAccumulator();
+        long pointsAwarded = 0;
+        for (CustomerMonthPoints aggregate : aggregates) {
+            if (aggregate.minAmount() < 0) {
+                throw RewardServiceImpl.negativeAmount(aggregate.customerId());
+            }
+            long points = (long) aggregate.points();
+            accumulator.add(aggregate.customerId(), aggregate.month(), aggregate.transactions(), points);
+            pointsAwarded += points;
+        }
+        List<RewardPoints> rewards = accumulator.toRewards();
+        pipelineMetrics.record(Phase.COMPUTE, phaseStart);
+
+        pipelineMetrics.recordRun(accumulator.transactions(), rewards.size());
+        pipelineMetrics.recordComputed(accumulator.transactions(), pointsAwarded);
+        return rewards;
+    }
+}
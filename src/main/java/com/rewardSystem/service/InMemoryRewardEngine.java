@@ -0,0 +1,54 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import com.rewardSystem.repository.TransactionsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Loads the window's transactions as projections and computes the points in the JVM. Cheapest for
+ * small windows, where one indexed range scan and a single pass over the rows beat any round trip
+ * the other engines add.
+ */
+@Component
+public class InMemoryRewardEngine implements RewardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryRewardEngine.class);
+
+    static final String NAME = "in-memory";
+
+    private final TransactionsRepository transactionsRepository;
+    private final RewardPipelineMetrics pipelineMetrics;
+
+    public InMemoryRewardEngine(TransactionsRepository transactionsRepository, RewardPipelineMetrics pipelineMetrics) {
+        this.transactionsRepository = transactionsRepository;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<RewardPoints> computeRewards(LocalDate windowStart) {
+        // Fetch the window's transactions as unmanaged projections
+        long phaseStart = System.nanoTime();
+        List<TransactionView> transactions = transactionsRepository.findViewsSince(windowStart);
+        pipelineMetrics.record(Phase.FETCH, phaseStart);
+        logger.info("Retrieved {} transactions from database", transactions.size());
+
+        if (transactions.isEmpty()) {
+            pipelineMetrics.recordRun(0, 0);
+            return List.of();
+        }
+        return RewardServiceImpl.computeRewards(transactions, windowStart, pipelineMetrics);
+    }
+}
@@ -0,0 +1,78 @@
+package com.rewardSystem.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Write-behind buffer for {@code users.last_login}.
+ *
+ * Logins only record a timestamp in memory; repeated logins by the same user coalesce to the latest
+ * one. The buffer is written every {@code security.last-login.flush-interval-ms} as a single JDBC
+ * batch and drained once more on shutdown. The update never moves {@code last_login} backwards, and
+ * it bypasses JPA on purpose so it neither touches {@code updated_at} nor publishes user events.
+ */
+@Component
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ? WHERE username = ? AND (last_login IS NULL OR last_login < ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<String, Long> pending = new ConcurrentHashMap<>();
+
+    public void record(String username, long timestampMillis) {
+        pending.merge(username, timestampMillis, Math::max);
+    }
+
+    /**
+     * Number of users waiting to be written.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (String username : pending.keySet()) {
+            Long timestamp = pending.remove(username);
+            if (timestamp != null) {
+                batch.add(new Object[]{timestamp, username, timestamp});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            logger.debug("Flushed last login for {} users", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(row -> record((String) row[1], (Long) row[0]));
+            logger.warn("Could not flush last login for {} users, will retry: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+        if (!pending.isEmpty()) {
+            logger.warn("Dropping last login for {} users on shutdown", pending.size());
+        }
+    }
+}
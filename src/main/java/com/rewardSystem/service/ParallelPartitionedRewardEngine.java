@@ -0,0 +1,167 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import com.rewardSystem.repository.TransactionsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits the window into {@code rewards.engine.parallel.partitions} consecutive date ranges and scans
+ * them concurrently, each over the date index in its own read-only transaction. Every partition folds
+ * its rows into per-customer totals as soon as they arrive, so only one partition's rows are on the
+ * heap per worker, and the totals are merged at the end. Suited to large windows with many customers
+ * and few transactions each, where a database aggregate would save little transfer and run on a
+ * single core.
+ *
+ * The pool is shared by all requests and sized by {@code rewards.engine.parallel.threads}; together
+ * with the single-flight pool it bounds the connections rewards can hold. When the queue is full the
+ * requesting thread scans the partition itself.
+ */
+@Component
+public class ParallelPartitionedRewardEngine implements RewardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelPartitionedRewardEngine.class);
+
+    static final String NAME = "parallel";
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private RewardPipelineMetrics pipelineMetrics = RewardPipelineMetrics.noop();
+
+    @Value("${rewards.engine.parallel.threads:4}")
+    private int threads;
+
+    @Value("${rewards.engine.parallel.partitions:8}")
+    private int partitions;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        if (threads < 1 || partitions < 1) {
+            throw new IllegalStateException("rewards.engine.parallel threads and partitions must be positive");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(partitions * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rewards-scan-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<RewardPoints> computeRewards(LocalDate windowStart) {
+        long phaseStart = System.nanoTime();
+        List<LocalDate> starts = partitionStarts(windowStart, LocalDate.now(), partitions);
+        List<Future<RewardAccumulator>> scans = new ArrayList<>(starts.size());
+        for (int i = 0; i < starts.size(); i++) {
+            LocalDate from = starts.get(i);
+            // The last partition is open-ended so future-dated rows are counted as by the other engines
+            LocalDate to = i + 1 < starts.size() ? starts.get(i + 1).minusDays(1) : null;
+            scans.add(executor.submit(() -> scan(from, to)));
+        }
+
+        RewardAccumulator total = new RewardAccumulator();
+        try {
+            for (Future<RewardAccumulator> scan : scans) {
+                total.merge(scan.get());
+            }
+        } catch (ExecutionException e) {
+            scans.forEach(scan -> scan.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Partitioned rewards scan failed", e.getCause());
+        } catch (InterruptedException e) {
+            scans.forEach(scan -> scan.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Rewards request interrupted", e);
+        }
+        pipelineMetrics.record(Phase.FETCH, phaseStart);
+        logger.info("Scanned {} transactions in {} partitions", total.transactions(), starts.size());
+
+        phaseStart = System.nanoTime();
+        List<RewardPoints> rewards = total.toRewards();
+        pipelineMetrics.record(Phase.COMPUTE, phaseStart);
+
+        long pointsAwarded = rewards.stream().mapToLong(RewardPoints::getTotalRewardPoints).sum();
+        pipelineMetrics.recordRun(total.transactions(), rewards.size());
+        pipelineMetrics.recordComputed(total.transactions(), pointsAwarded);
+        return rewards;
+    }
+
+    /**
+     * Reads one partition, {@code from} to {@code to} inclusive or onwards when {@code to} is null,
+     * and folds it once the transaction has released its connection.
+     */
+    private RewardAccumulator scan(LocalDate from, LocalDate to) {
+        List<TransactionView> transactions = readOnlyTransaction.execute(status -> to == null
+                ? transactionsRepository.findViewsSince(from)
+                : transactionsRepository.findViewsBetween(from, to));
+        RewardAccumulator accumulator = new RewardAccumulator();
+        for (TransactionView transaction : transactions) {
+            if (transaction.amount() < 0) {
+                throw RewardServiceImpl.negativeAmount(transaction.customerId());
+            }
+            accumulator.add(transaction.customerId(), transaction.date().getMonthValue(), 1,
+                    RewardServiceImpl.calculatePoints(transaction.amount()));
+        }
+        return accumulator;
+    }
+
+    /**
+     * First day of each of up to {@code partitions} ranges of near-equal length covering
+     * {@code windowStart} to {@code today}.
+     */
+    static List<LocalDate> partitionStarts(LocalDate windowStart, LocalDate today, int partitions) {
+        long days = Math.max(1, today.toEpochDay() - windowStart.toEpochDay() + 1);
+        int count = (int) Math.min(partitions, days);
+        List<LocalDate> starts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            starts.add(windowStart.plusDays(i * days / count));
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,68 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-customer, per-month point totals built up from partial results and turned into
+ * {@link RewardPoints} at the end. A month appears in the output once any transaction fell into it,
+ * even if that transaction earned nothing, which matches the in-memory engine. Not thread-safe; each
+ * worker fills its own and the results are {@linkplain #merge merged}.
+ */
+final class RewardAccumulator {
+
+    private final Map<Integer, long[]> pointsByCustomer = new HashMap<>();
+    private long transactions;
+
+    /**
+     * Adds {@code points} earned by {@code count} transactions of {@code customerId} in {@code month}
+     * (1 to 12).
+     */
+    void add(int customerId, int month, long count, long points) {
+        // Slot 12 marks which months were seen, so zero-point months still show up
+        long[] months = pointsByCustomer.computeIfAbsent(customerId, id -> new long[13]);
+        months[month - 1] += points;
+        months[12] |= 1L << (month - 1);
+        transactions += count;
+    }
+
+    void merge(RewardAccumulator other) {
+        other.pointsByCustomer.forEach((customerId, months) -> {
+            long[] target = pointsByCustomer.computeIfAbsent(customerId, id -> new long[13]);
+            for (int i = 0; i < 12; i++) {
+                target[i] += months[i];
+            }
+            target[12] |= months[12];
+        });
+        transactions += other.transactions;
+    }
+
+    long transactions() {
+        return transactions;
+    }
+
+    /**
+     * The rewards ordered by customer id.
+     */
+    List<RewardPoints> toRewards() {
+        List<RewardPoints> rewards = new ArrayList<>(pointsByCustomer.size());
+        new TreeMap<>(pointsByCustomer).forEach((customerId, months) -> {
+            Map<String, Integer> monthlyPoints = new HashMap<>();
+            int total = 0;
+            for (int i = 0; i < 12; i++) {
+                if ((months[12] & (1L << i)) != 0) {
+                    monthlyPoints.put(Month.of(i + 1).toString(), Math.toIntExact(months[i]));
+                    total += (int) months[i];
+                }
+            }
+            rewards.add(new RewardPoints(customerId, monthlyPoints, total));
+        });
+        return rewards;
+    }
+}
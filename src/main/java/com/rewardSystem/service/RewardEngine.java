@@ -0,0 +1,27 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One way of computing the active reward window. Every engine returns the same points, with months
+ * keyed by name as in {@link RewardPoints#getMonthlyRewards()}; they differ in where the work runs.
+ * Customer names are applied afterwards by {@link RewardServiceImpl}.
+ *
+ * @see RewardEnginePlanner
+ */
+public interface RewardEngine {
+
+    /**
+     * Identifier used by {@code rewards.engine.force} and as the {@code engine} metric tag.
+     */
+    String name();
+
+    /**
+     * Rewards for every customer with transactions on or after {@code windowStart}; empty when there
+     * are none.
+     */
+    List<RewardPoints> computeRewards(LocalDate windowStart);
+}
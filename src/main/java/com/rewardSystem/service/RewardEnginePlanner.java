@@ -0,0 +1,139 @@
+package com.rewardSystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.WindowStatistics;
+import com.rewardSystem.repository.TransactionsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks the {@link RewardEngine} for each rewards run from the size of the window.
+ *
+ * The statistics are a transaction count and a distinct-customer count over the date index, cached
+ * for {@code rewards.engine.statistics-ttl-seconds}. Windows of up to
+ * {@code rewards.engine.in-memory-max-rows} transactions are computed in memory. Larger windows go to
+ * the database aggregate when customers average at least
+ * {@code rewards.engine.aggregate-min-rows-per-customer} transactions, since the aggregate then
+ * returns far fewer rows than it reads, and to the parallel partitioned scan otherwise. Setting
+ * {@code rewards.engine.force} to an engine name skips the statistics and always uses that engine.
+ * When the {@link ColumnarRewardEngine} is enabled and has the window loaded, it serves every run
+ * that is not forced elsewhere, since it needs no database round trip at all.
+ *
+ * Each run is timed as {@code rewards.engine.runs}, tagged with the engine that served it.
+ */
+@Component
+public class RewardEnginePlanner implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RewardEnginePlanner.class);
+
+    @Autowired
+    private List<RewardEngine> engineList;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired(required = false)
+    private ColumnarRewardEngine columnarEngine;
+
+    @Value("${rewards.engine.force:}")
+    private String forcedEngine;
+
+    @Value("${rewards.engine.in-memory-max-rows:200000}")
+    private long inMemoryMaxRows;
+
+    @Value("${rewards.engine.aggregate-min-rows-per-customer:4}")
+    private double aggregateMinRowsPerCustomer;
+
+    @Value("${rewards.engine.statistics-ttl-seconds:300}")
+    private long statisticsTtlSeconds;
+
+    private final Map<String, RewardEngine> engines = new LinkedHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private Cache<LocalDate, WindowStatistics> statistics;
+    private RewardEngine forced;
+
+    @PostConstruct
+    void init() {
+        for (RewardEngine engine : engineList) {
+            engines.put(engine.name(), engine);
+        }
+        if (forcedEngine != null && !forcedEngine.isBlank()) {
+            forced = engines.get(forcedEngine.trim());
+            if (forced == null) {
+                throw new IllegalStateException("Unknown reward engine '" + forcedEngine + "', expected one of "
+                        + engines.keySet());
+            }
+            logger.info("Reward engine forced to {}", forced.name());
+        }
+        statistics = Caffeine.newBuilder()
+                .maximumSize(4)
+                .expireAfterWrite(Duration.ofSeconds(statisticsTtlSeconds))
+                .build();
+    }
+
+    /**
+     * Computes the window starting at {@code windowStart} with the engine chosen for it.
+     */
+    public List<RewardPoints> computeRewards(LocalDate windowStart) {
+        RewardEngine engine = select(windowStart);
+        long started = System.nanoTime();
+        try {
+            return engine.computeRewards(windowStart);
+        } finally {
+            Timer timer = timers.get(engine.name());
+            if (timer != null) {
+                timer.record(Duration.ofNanos(System.nanoTime() - started));
+            }
+        }
+    }
+
+    RewardEngine select(LocalDate windowStart) {
+        if (forced != null) {
+            return forced;
+        }
+        if (columnarEngine != null && columnarEngine.covers(windowStart)) {
+            return columnarEngine;
+        }
+        WindowStatistics stats = statistics.get(windowStart, transactionsRepository::windowStatisticsSince);
+        RewardEngine engine = engines.get(plan(stats));
+        logger.debug("Window from {} holds {} transactions for {} customers, using the {} engine",
+                windowStart, stats.transactions(), stats.customers(), engine.name());
+        return engine;
+    }
+
+    String plan(WindowStatistics stats) {
+        if (stats.transactions() <= inMemoryMaxRows) {
+            return InMemoryRewardEngine.NAME;
+        }
+        double rowsPerCustomer = (double) stats.transactions() / Math.max(1, stats.customers());
+        return rowsPerCustomer >= aggregateMinRowsPerCustomer
+                ? DbAggregateRewardEngine.NAME
+                : ParallelPartitionedRewardEngine.NAME;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : engines.keySet()) {
+            timers.put(name, Timer.builder("rewards.engine.runs")
+                    .description("Rewards computations by the engine that served them")
+                    .tag("engine", name)
+                    .register(registry));
+        }
+    }
+}
@@ -2,9 +2,16 @@ package com.rewardSystem.service;
 
 import com.rewardSystem.entity.RewardPoints;
 
+import java.time.YearMonth;
 import java.util.List;
 
 public interface RewardService {
     List<RewardPoints> findAllRewards();
 
+    /**
+     * Rewards for an arbitrary range of whole months, reading compacted monthly
+     * summaries for months the retention job has already folded.
+     */
+    List<RewardPoints> findRewardsForPeriod(YearMonth from, YearMonth to);
+
 }
@@ -1,20 +1,33 @@
 
 package com.rewardSystem.service;
 
+import com.rewardSystem.entity.Customer;
 import com.rewardSystem.entity.RewardPoints;
-import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.MonthlyRewardSummary;
 import com.rewardSystem.exception.DataProcessingException;
 import com.rewardSystem.exception.InternalServerException;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
 import com.rewardSystem.repository.TransactionsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,33 +38,38 @@ public class RewardServiceImpl implements RewardService {
     @Autowired
     private TransactionsRepository transactionsRepository;
 
+    @Autowired
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired(required = false)
+    private RewardPipelineMetrics pipelineMetrics = RewardPipelineMetrics.noop();
+
+    // Absent in slices that import only this service; the window is then computed in memory
+    @Autowired(required = false)
+    private RewardEnginePlanner enginePlanner;
+
     @Override
+    @Transactional(readOnly = true)
     public List<RewardPoints> findAllRewards() {
         logger.debug("Starting findAllRewards operation");
 
         try {
-            LocalDate threeMonthsAgo = LocalDate.now().minusMonths(2).withDayOfMonth(1);
+            LocalDate threeMonthsAgo = rewardWindowStart();
             logger.debug("Filtering transactions from date: {}", threeMonthsAgo);
 
-            // Fetch all transactions from database
-            List<CustomerTranscation> allTransactions = transactionsRepository.findAll();
-            logger.info("Retrieved {} total transactions from database", allTransactions.size());
+            List<RewardPoints> rewards = enginePlanner != null
+                    ? enginePlanner.computeRewards(threeMonthsAgo)
+                    : new InMemoryRewardEngine(transactionsRepository, pipelineMetrics).computeRewards(threeMonthsAgo);
 
-            if (allTransactions == null || allTransactions.isEmpty()) {
+            if (rewards.isEmpty()) {
                 logger.warn("No transactions found in database");
                 return List.of();
             }
 
-            // Filter, group, and process transactions
-            List<RewardPoints> rewards = allTransactions.stream()
-                    .filter(t -> !t.getDate().isBefore(threeMonthsAgo))
-                    .collect(Collectors.groupingBy(CustomerTranscation::getCustomerId))
-                    .entrySet().stream()
-                    .map(entry -> {
-                        logger.debug("Processing rewards for customer ID: {}", entry.getKey());
-                        return buildRewardResponse(entry.getKey(), entry.getValue());
-                    })
-                    .collect(Collectors.toList());
+            applyCustomerNames(rewards, customerRepository.findWithTransactionsSince(threeMonthsAgo));
 
             logger.info("Successfully calculated rewards for {} customers", rewards.size());
             return rewards;
@@ -62,27 +80,149 @@ public class RewardServiceImpl implements RewardService {
         } catch (DataProcessingException e) {
             logger.error("Data processing error occurred: {}", e.getMessage(), e);
             throw e;
+        } catch (ServiceUnavailableException e) {
+            // Already mapped to 503 with a retry hint
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error occurred while fetching all rewards", e);
             throw new InternalServerException("An unexpected error occurred while processing your request", e);
         }
     }
 
-    private RewardPoints buildRewardResponse(int customerId, List<CustomerTranscation> transactions) {
-        logger.debug("Building reward response for customer ID: {}", customerId);
+    @Override
+    @Transactional(readOnly = true)
+    public List<RewardPoints> findRewardsForPeriod(YearMonth from, YearMonth to) {
+        logger.debug("Starting findRewardsForPeriod operation for {} to {}", from, to);
+
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid reward period: " + from + " to " + to);
+        }
 
+        try {
+            // Raw rows that have not been compacted yet
+            Map<Integer, List<TransactionView>> rawByCustomer = transactionsRepository
+                    .findViewsBetween(from.atDay(1), to.atEndOfMonth()).stream()
+                    .collect(Collectors.groupingBy(TransactionView::customerId));
+
+            // Months that were folded by the retention job
+            Map<Integer, List<MonthlyRewardSummary>> summariesByCustomer = summaryRepository
+                    .findByYearMonthBetween(from.toString(), to.toString()).stream()
+                    .collect(Collectors.groupingBy(MonthlyRewardSummary::getCustomerId));
+            logger.info("Retrieved raw transactions for {} customers and summaries for {} customers",
+                    rawByCustomer.size(), summariesByCustomer.size());
+
+            Map<Integer, RewardPoints> rewards = new TreeMap<>();
+            // Keyed by year and month, since a period can span more than a year
+            rawByCustomer.forEach((customerId, transactions) ->
+                    rewards.put(customerId, buildRewardResponse(customerId, transactions, YearMonth::from)));
+
+            summariesByCustomer.forEach((customerId, summaries) -> {
+                RewardPoints response = rewards.computeIfAbsent(customerId,
+                        id -> new RewardPoints(id, new HashMap<>(), 0));
+                for (MonthlyRewardSummary summary : summaries) {
+                    response.getMonthlyRewards().merge(summary.getYearMonth(), summary.getPoints(), Integer::sum);
+                    response.setTotalRewardPoints(response.getTotalRewardPoints() + summary.getPoints());
+                }
+            });
+
+            applyCustomerNames(rewards.values(), customerRepository.findWithRewardsBetween(
+                    from.atDay(1), to.atEndOfMonth(), from.toString(), to.toString()));
+
+            logger.info("Successfully calculated historical rewards for {} customers", rewards.size());
+            return new ArrayList<>(rewards.values());
+
+        } catch (DataProcessingException e) {
+            logger.error("Data processing error occurred: {}", e.getMessage(), e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while fetching historical rewards", e);
+            throw new InternalServerException("An unexpected error occurred while processing your request", e);
+        }
+    }
+
+    /**
+     * The computation behind {@link InMemoryRewardEngine}: keeps the transactions inside the window,
+     * groups them by customer and computes each customer's points. Touches no repository, so the
+     * startup warm-up can drive it with synthetic data.
+     */
+    static List<RewardPoints> computeRewards(List<TransactionView> transactions, LocalDate windowStart,
+                                             RewardPipelineMetrics metrics) {
+        // Filter to the reward window
+        long phaseStart = System.nanoTime();
+        List<TransactionView> windowTransactions = transactions.stream()
+                .filter(t -> !t.date().isBefore(windowStart))
+                .collect(Collectors.toList());
+        metrics.record(Phase.FILTER, phaseStart);
+
+        // Group by customer
+        phaseStart = System.nanoTime();
+        Map<Integer, List<TransactionView>> byCustomer = windowTransactions.stream()
+                .collect(Collectors.groupingBy(TransactionView::customerId));
+        metrics.record(Phase.GROUP, phaseStart);
+
+        // Compute points per customer
+        phaseStart = System.nanoTime();
+        List<RewardPoints> rewards = byCustomer.entrySet().stream()
+                .map(entry -> buildRewardResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        metrics.record(Phase.COMPUTE, phaseStart);
+
+        // One aggregated summary instead of per-customer/per-transaction log lines
+        long pointsAwarded = rewards.stream().mapToLong(RewardPoints::getTotalRewardPoints).sum();
+        metrics.recordRun(transactions.size(), rewards.size());
+        metrics.recordComputed(windowTransactions.size(), pointsAwarded);
+        logger.debug("Computed {} points from {} of {} transactions", pointsAwarded,
+                windowTransactions.size(), transactions.size());
+        return rewards;
+    }
+
+    /**
+     * Sets each customer's name from {@code customers}, the result of a single lookup covering the
+     * whole run. Customers without a {@link Customer} row keep a {@code null} name.
+     */
+    static void applyCustomerNames(Collection<RewardPoints> rewards, List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> names = new HashMap<>(customers.size() * 2);
+        for (Customer customer : customers) {
+            names.put(customer.getCustomerId(), customer.getCustomerName());
+        }
+        for (RewardPoints reward : rewards) {
+            reward.setCustomerName(names.get(reward.getCustomerId()));
+        }
+    }
+
+    /**
+     * First day of the active reward window: the current month plus the two before it.
+     */
+    static LocalDate rewardWindowStart() {
+        return LocalDate.now().minusMonths(2).withDayOfMonth(1);
+    }
+
+    static RewardPoints buildRewardResponse(int customerId, List<TransactionView> transactions) {
+        return buildRewardResponse(customerId, transactions, LocalDate::getMonth);
+    }
+
+    /**
+     * Sums each transaction's points under {@code monthKey} of its date, e.g. the {@link java.time.Month}
+     * for the reward window or the {@link YearMonth} for a historical period.
+     */
+    static RewardPoints buildRewardResponse(int customerId, List<TransactionView> transactions,
+                                            Function<LocalDate, ?> monthKey) {
         try {
             Map<String, Integer> monthlyPoints = new HashMap<>();
             int totalPoints = 0;
 
-            for (CustomerTranscation trans : transactions) {
+            for (TransactionView trans : transactions) {
                 try {
-                    int points = calculatePoints(trans.getAmount());
-                    String month = trans.getDate().getMonth().toString();
+                    if (trans.amount() < 0) {
+                        throw negativeAmount(customerId);
+                    }
+                    int points = calculatePoints(trans.amount());
+                    String month = monthKey.apply(trans.date()).toString();
                     monthlyPoints.put(month, monthlyPoints.getOrDefault(month, 0) + points);
                     totalPoints += points;
-                    logger.trace("Calculated points for customer {}: {} points for {}",
-                            customerId, points, month);
                 } catch (NullPointerException e) {
                     logger.error("Error processing transaction for customer {}: {}", customerId, e.getMessage(), e);
                     throw new DataProcessingException("Error processing transaction for customer " + customerId, e);
@@ -93,9 +233,6 @@ public class RewardServiceImpl implements RewardService {
             response.setCustomerId(customerId);
             response.setMonthlyRewards(monthlyPoints);
             response.setTotalRewardPoints(totalPoints);
-
-            logger.debug("Successfully built reward response for customer {}: {} total points",
-                    customerId, totalPoints);
             return response;
 
         } catch (DataProcessingException e) {
@@ -107,9 +244,15 @@ public class RewardServiceImpl implements RewardService {
         }
     }
 
-    private int calculatePoints(double amount) {
-        logger.trace("Calculating points for amount: {}", amount);
+    /**
+     * The error every reward engine raises for a negative amount in the window, which earns no
+     * defined number of points.
+     */
+    static DataProcessingException negativeAmount(int customerId) {
+        return new DataProcessingException("Negative transaction amount for customer " + customerId);
+    }
 
+    static int calculatePoints(double amount) {
         try {
             if (amount < 0) {
                 throw new IllegalArgumentException("Transaction amount cannot be negative");
@@ -122,8 +265,6 @@ public class RewardServiceImpl implements RewardService {
             if (amount > 50) {
                 points += Math.min(amount, 100) - 50;
             }
-
-            logger.trace("Calculated {} points for amount {}", points, amount);
             return points;
 
         } catch (IllegalArgumentException e) {
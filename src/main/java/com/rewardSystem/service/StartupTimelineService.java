@@ -0,0 +1,61 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.dto.StartupStepTiming;
+import com.rewardSystem.dto.StartupTimelineResponse;
+import com.rewardSystem.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the bean and phase timeline recorded by {@link BufferingApplicationStartup} during boot.
+ *
+ * Steps nest: {@code spring.context.refresh} contains every {@code spring.beans.instantiate}, and a
+ * bean's step contains those of the dependencies it pulled in. Sorting by duration therefore lists
+ * the outer phases first, followed by the beans that dominate them. Beans created lazily after
+ * startup are recorded as well until the buffer is full.
+ */
+@Service
+public class StartupTimelineService {
+
+    @Autowired
+    private ApplicationStartup applicationStartup;
+
+    /**
+     * Returns the {@code limit} longest startup steps, longest first.
+     *
+     * @throws ResourceNotFoundException if the application was not started with a buffering startup
+     */
+    public StartupTimelineResponse slowestSteps(int limit) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            throw new ResourceNotFoundException("Startup timeline was not recorded for this instance");
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        List<StartupStepTiming> steps = events.stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(Math.max(0, limit))
+                .map(StartupTimelineService::toTiming)
+                .toList();
+        return new StartupTimelineResponse(timeline.getStartTime(), events.size(), steps);
+    }
+
+    private static StartupStepTiming toTiming(StartupTimeline.TimelineEvent event) {
+        StartupStep step = event.getStartupStep();
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return new StartupStepTiming(step.getId(), step.getParentId(), step.getName(),
+                event.getDuration().toNanos() / 1_000_000.0, tags);
+    }
+}
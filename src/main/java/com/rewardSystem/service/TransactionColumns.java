@@ -0,0 +1,188 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.WindowChecksum;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Transactions stored column by column outside the Java heap: customer id, amount in cents and
+ * epoch day, 16 bytes a row against roughly 80 for a {@code CustomerTranscation}. The buffers are
+ * direct and in native byte order, and are released by the garbage collector once no snapshot refers
+ * to them.
+ *
+ * One writer appends at a time (callers synchronize); readers need no lock. A row is written before
+ * the volatile size that covers it, so a reader that reads {@link #size()} first sees every row below
+ * it. A full instance is never grown in place: the writer {@linkplain #copy copies} it into a larger
+ * one and publishes that instead, while readers finish on the old one.
+ */
+final class TransactionColumns {
+
+    private static final int ROW_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * Largest capacity whose amount column still fits one direct buffer.
+     */
+    static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private final IntBuffer customerIds;
+    private final LongBuffer amountCents;
+    private final IntBuffer epochDays;
+    private final int capacity;
+    private final int firstDay;
+
+    private volatile int size;
+    private volatile int maxDay = Integer.MIN_VALUE;
+    private volatile int minCustomerId = Integer.MAX_VALUE;
+    private volatile int maxCustomerId = Integer.MIN_VALUE;
+
+    /**
+     * Empty columns for up to {@code capacity} rows dated on or after {@code firstDay} (an epoch day).
+     */
+    TransactionColumns(int capacity, int firstDay) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        this.capacity = capacity;
+        this.firstDay = firstDay;
+        customerIds = allocate(capacity, Integer.BYTES).asIntBuffer();
+        amountCents = allocate(capacity, Long.BYTES).asLongBuffer();
+        epochDays = allocate(capacity, Integer.BYTES).asIntBuffer();
+    }
+
+    private static ByteBuffer allocate(int rows, int width) {
+        return ByteBuffer.allocateDirect(rows * width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Amount in whole cents. Amounts are stored rounded to cents ({@code CustomerTranscation} on
+     * write, migration V5 for older rows), so this is exact and the thresholds match
+     * {@link RewardServiceImpl#calculatePoints} on the same amount.
+     */
+    static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    /**
+     * Appends a row; rows dated before the first day are ignored.
+     *
+     * @return {@code false} when the columns are full and the row was not stored
+     */
+    boolean append(int customerId, long cents, int epochDay) {
+        if (epochDay < firstDay) {
+            return true;
+        }
+        int row = size;
+        if (row == capacity) {
+            return false;
+        }
+        customerIds.put(row, customerId);
+        amountCents.put(row, cents);
+        epochDays.put(row, epochDay);
+        if (epochDay > maxDay) {
+            maxDay = epochDay;
+        }
+        if (customerId < minCustomerId) {
+            minCustomerId = customerId;
+        }
+        if (customerId > maxCustomerId) {
+            maxCustomerId = customerId;
+        }
+        size = row + 1;
+        return true;
+    }
+
+    /**
+     * A new instance of {@code capacity} rows holding this one's rows dated on or after
+     * {@code firstDay}. Used both to grow and to drop the days that left the window.
+     */
+    TransactionColumns copy(int capacity, int firstDay) {
+        TransactionColumns copy = new TransactionColumns(capacity, firstDay);
+        int rows = size;
+        for (int row = 0; row < rows; row++) {
+            if (!copy.append(customerIds.get(row), amountCents.get(row), epochDays.get(row))) {
+                throw new IllegalArgumentException("Capacity " + capacity + " is too small for the rows kept");
+            }
+        }
+        return copy;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int firstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Latest epoch day stored, or {@link Integer#MIN_VALUE} when empty.
+     */
+    int maxDay() {
+        return maxDay;
+    }
+
+    int minCustomerId() {
+        return minCustomerId;
+    }
+
+    int maxCustomerId() {
+        return maxCustomerId;
+    }
+
+    /**
+     * Rows dated on or after {@code epochDay}.
+     */
+    int countSince(int epochDay) {
+        int rows = size;
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            if (epochDays.get(row) >= epochDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The {@link WindowChecksum} of the rows dated {@code fromDay} to {@code toDay} (epoch days,
+     * inclusive), comparable with {@code TransactionsRepository.windowChecksumBetween}.
+     */
+    WindowChecksum checksumBetween(int fromDay, int toDay) {
+        int rows = size;
+        long count = 0;
+        long cents = 0;
+        long customers = 0;
+        for (int row = 0; row < rows; row++) {
+            int day = epochDays.get(row);
+            if (day >= fromDay && day <= toDay) {
+                count++;
+                cents += amountCents.get(row);
+                customers += customerIds.get(row);
+            }
+        }
+        return new WindowChecksum(count, cents, customers);
+    }
+
+    long offHeapBytes() {
+        return (long) capacity * ROW_BYTES;
+    }
+
+    int customerId(int row) {
+        return customerIds.get(row);
+    }
+
+    long amountCents(int row) {
+        return amountCents.get(row);
+    }
+
+    int epochDay(int row) {
+        return epochDays.get(row);
+    }
+}
@@ -0,0 +1,153 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
+import com.rewardSystem.repository.TransactionsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Folds transactions older than the retention horizon into {@link MonthlyRewardSummary} rows.
+ *
+ * Each month is processed in chunks of {@code rewards.retention.delete-batch-size} rows. A chunk is
+ * merged into the summaries, verified and deleted in the same short transaction, so row locks are
+ * held only briefly and a crash can never count a raw row twice. The raw rows of a chunk are only
+ * deleted once the summaries read back from the database have grown by exactly the chunk's count
+ * and amount; otherwise the chunk rolls back and the month keeps its rows.
+ */
+@Service
+public class TransactionRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionRetentionService.class);
+    private static final double AMOUNT_TOLERANCE = 0.005;
+
+    // Resolved on the first compaction, so scheduling the job does not build the repositories at boot
+    @Autowired
+    @Lazy
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    @Lazy
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${rewards.retention.enabled:false}")
+    private boolean enabled;
+
+    @Value("${rewards.retention.horizon-months:12}")
+    private int horizonMonths;
+
+    @Value("${rewards.retention.delete-batch-size:500}")
+    private int deleteBatchSize;
+
+    @Scheduled(cron = "${rewards.retention.cron:0 30 2 * * *}")
+    public void scheduledCompaction() {
+        if (!enabled) {
+            logger.trace("Transaction retention is disabled");
+            return;
+        }
+        compactOlderThan(LocalDate.now().minusMonths(horizonMonths).withDayOfMonth(1));
+    }
+
+    /**
+     * Compacts every whole month strictly before {@code horizon}.
+     *
+     * @return number of raw transactions folded into summaries
+     */
+    public long compactOlderThan(LocalDate horizon) {
+        LocalDate cutoff = horizon.withDayOfMonth(1);
+        if (cutoff.isAfter(RewardServiceImpl.rewardWindowStart())) {
+            throw new IllegalArgumentException("Retention horizon " + cutoff
+                    + " overlaps the active reward window starting " + RewardServiceImpl.rewardWindowStart());
+        }
+
+        Optional<CustomerTranscation> oldest = transactionsRepository.findFirstByDateBeforeOrderByDateAsc(cutoff);
+        if (oldest.isEmpty()) {
+            logger.debug("No transactions older than {} to compact", cutoff);
+            return 0;
+        }
+
+        long folded = 0;
+        YearMonth last = YearMonth.from(cutoff).minusMonths(1);
+        for (YearMonth month = YearMonth.from(oldest.get().getDate()); !month.isAfter(last); month = month.plusMonths(1)) {
+            folded += compactMonth(month);
+        }
+        logger.info("Compacted {} transactions older than {} into monthly summaries", folded, cutoff);
+        return folded;
+    }
+
+    long compactMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String key = month.toString();
+
+        if (transactionsRepository.countInRange(from, to) == 0) {
+            return 0;
+        }
+
+        TransactionTemplate chunkTx = new TransactionTemplate(transactionManager);
+        long folded = 0;
+        int chunkSize;
+        do {
+            Integer result = chunkTx.execute(status -> foldChunk(key, from, to));
+            chunkSize = result == null ? 0 : result;
+            folded += chunkSize;
+        } while (chunkSize > 0);
+
+        logger.debug("Compacted {} transactions for month {}", folded, key);
+        return folded;
+    }
+
+    private int foldChunk(String key, LocalDate from, LocalDate to) {
+        List<CustomerTranscation> chunk = transactionsRepository.findChunkInRange(from, to, PageRequest.of(0, deleteBatchSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> customerIds = chunk.stream().map(CustomerTranscation::getCustomerId).distinct().toList();
+        long countBefore = summaryRepository.sumCountForCustomers(key, customerIds);
+        double amountBefore = summaryRepository.sumAmountForCustomers(key, customerIds);
+        Map<Integer, MonthlyRewardSummary> summaries = summaryRepository
+                .findByYearMonthAndCustomerIdIn(key, customerIds).stream()
+                .collect(Collectors.toMap(MonthlyRewardSummary::getCustomerId, s -> s, (a, b) -> a, HashMap::new));
+
+        double chunkAmount = 0;
+        for (CustomerTranscation trans : chunk) {
+            summaries.computeIfAbsent(trans.getCustomerId(), id -> new MonthlyRewardSummary(id, key))
+                    .add(trans.getAmount(), RewardServiceImpl.calculatePoints(trans.getAmount()));
+            chunkAmount += trans.getAmount();
+        }
+
+        summaryRepository.saveAll(summaries.values());
+        // The queries flush the merged summaries first, so they read what the database now holds
+        long countDelta = summaryRepository.sumCountForCustomers(key, customerIds) - countBefore;
+        double amountDelta = summaryRepository.sumAmountForCustomers(key, customerIds) - amountBefore;
+        if (countDelta != chunk.size() || Math.abs(amountDelta - chunkAmount) > AMOUNT_TOLERANCE * chunk.size()) {
+            logger.error("Summary verification failed for {}: expected {} rows / {} amount, folded {} rows / {} amount",
+                    key, chunk.size(), chunkAmount, countDelta, amountDelta);
+            throw new DataProcessingException("Summary verification failed for month " + key);
+        }
+        transactionsRepository.deleteAllByIdInBatch(chunk.stream().map(CustomerTranscation::getId).toList());
+        return chunk.size();
+    }
+}
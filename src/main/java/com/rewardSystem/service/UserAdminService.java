@@ -0,0 +1,237 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.dto.BulkProvisioningResponse;
+import com.rewardSystem.dto.BulkUserResult;
+import com.rewardSystem.dto.RegisterRequest;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.exception.ResourceNotFoundException;
+import com.rewardSystem.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Administrative operations on user accounts.
+ */
+@Service
+public class UserAdminService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAdminService.class);
+
+    static final String INSERT_SQL = "INSERT INTO users "
+            + "(username, password, email, enabled, role, created_at, updated_at, token_version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${security.bulk-provisioning.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${security.bulk-provisioning.batch-size:500}")
+    private int batchSize;
+
+    @Value("${security.bulk-provisioning.max-users:10000}")
+    private int maxUsers;
+
+    private ThreadPoolExecutor hashPool;
+
+    @PostConstruct
+    void init() {
+        // Leave half the cores to the login verification pool by default
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * Invalidates every token issued to {@code username} so far by bumping its token version.
+     *
+     * @return the new token version
+     */
+    @Transactional
+    public long revokeTokens(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+
+        long version = (user.getTokenVersion() == null ? 0L : user.getTokenVersion()) + 1;
+        user.setTokenVersion(version);
+        userRepository.save(user);
+
+        logger.info("Revoked all tokens for user: {} (token version {})", username, version);
+        return version;
+    }
+
+    /**
+     * Creates many users in one call, reporting the outcome of every row.
+     *
+     * Rows are validated like {@code /auth/register}. Passwords are hashed in parallel on a bounded
+     * pool; once it is full the calling thread hashes too, which keeps the backlog bounded. Each chunk
+     * of {@code security.bulk-provisioning.batch-size} rows is inserted as one JDBC batch in its own
+     * transaction. If the unique constraints reject a chunk, it is rolled back and retried row by
+     * row, so only the conflicting rows are rejected.
+     */
+    public BulkProvisioningResponse provisionUsers(List<RegisterRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new DataProcessingException("At least one user is required");
+        }
+        if (requests.size() > maxUsers) {
+            throw new DataProcessingException("At most " + maxUsers + " users can be provisioned per request");
+        }
+
+        long started = System.currentTimeMillis();
+        BulkUserResult[] results = new BulkUserResult[requests.size()];
+        List<Integer> accepted = validate(requests, results);
+
+        for (int from = 0; from < accepted.size(); from += batchSize) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + batchSize, accepted.size()));
+            insertChunk(requests, chunk, hashPasswords(requests, chunk), results);
+        }
+
+        int created = (int) Arrays.stream(results).filter(r -> BulkUserResult.CREATED.equals(r.getStatus())).count();
+        logger.info("Provisioned {} of {} users in {} ms", created, requests.size(),
+                System.currentTimeMillis() - started);
+        return new BulkProvisioningResponse(created, requests.size() - created, Arrays.asList(results));
+    }
+
+    private List<Integer> validate(List<RegisterRequest> requests, BulkUserResult[] results) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequest request = requests.get(i);
+            String username = request == null ? null : request.getUsername();
+            String error = request == null ? "User is required" : request.validate();
+            if (error == null && !isValidRole(request.getRole())) {
+                error = "Invalid role: " + request.getRole();
+            }
+            if (error == null && !usernames.add(username)) {
+                error = UserConstraintViolations.USERNAME_EXISTS;
+            }
+            if (error == null && !emails.add(request.getEmail())) {
+                error = UserConstraintViolations.EMAIL_EXISTS;
+            }
+
+            if (error != null) {
+                results[i] = BulkUserResult.rejected(i, username, error);
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    private List<String> hashPasswords(List<RegisterRequest> requests, List<Integer> chunk) {
+        List<Future<String>> futures = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            String password = requests.get(index).getPassword();
+            futures.add(hashPool.submit(() -> passwordEncoder.encode(password)));
+        }
+
+        List<String> hashes = new ArrayList<>(chunk.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new DataProcessingException("Password hashing failed", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new DataProcessingException("Bulk provisioning interrupted", e);
+        }
+        return hashes;
+    }
+
+    private void insertChunk(List<RegisterRequest> requests, List<Integer> chunk, List<String> hashes,
+                             BulkUserResult[] results) {
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            rows.add(row(requests.get(chunk.get(i)), hashes.get(i), now));
+        }
+
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+            chunk.forEach(index -> results[index] = BulkUserResult.created(index, requests.get(index).getUsername()));
+            return;
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Batch of {} users hit a constraint, retrying row by row", chunk.size());
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            String username = requests.get(index).getUsername();
+            try {
+                jdbcTemplate.update(INSERT_SQL, rows.get(i));
+                results[index] = BulkUserResult.created(index, username);
+            } catch (DataIntegrityViolationException e) {
+                String message = UserConstraintViolations.duplicateMessage(e);
+                if (message == null) {
+                    logger.error("Provisioning failed for user: {}", username, e);
+                    message = "Registration failed";
+                }
+                results[index] = BulkUserResult.rejected(index, username, message);
+            }
+        }
+    }
+
+    private static Object[] row(RegisterRequest request, String hash, long now) {
+        String role = request.getRole() != null ? request.getRole() : User.UserRole.ROLE_USER.name();
+        return new Object[]{request.getUsername(), hash, request.getEmail(), true, role, now, now};
+    }
+
+    private static boolean isValidRole(String role) {
+        if (role == null) {
+            return true;
+        }
+        return Arrays.stream(User.UserRole.values()).anyMatch(value -> value.name().equals(role));
+    }
+}
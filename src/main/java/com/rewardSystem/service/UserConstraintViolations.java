@@ -0,0 +1,45 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.User;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps a failed user insert to the message registration has always returned. The database reports
+ * the violated constraint by name, upper-cased by H2 and prefixed with the table by MySQL.
+ *
+ * Besides the names the migrations give the constraints, the names Hibernate generated for a schema
+ * created by {@code ddl-auto} are recognised, in case such a database has not been migrated, and so
+ * is H2's {@code USERS(USERNAME} column list, which it reports whatever the constraint is called.
+ */
+final class UserConstraintViolations {
+
+    static final String USERNAME_EXISTS = "Username already exists";
+    static final String EMAIL_EXISTS = "Email already exists";
+
+    private static final List<String> USERNAME_KEYS =
+            List.of(User.USERNAME_CONSTRAINT, "uk_r43af9ap4edm43mmtq01oddj6", "users(username");
+    private static final List<String> EMAIL_KEYS =
+            List.of(User.EMAIL_CONSTRAINT, "uk_6dotkott2kjsp8vw4d0m25fb7", "users(email");
+
+    private UserConstraintViolations() {
+    }
+
+    /**
+     * @return the user-facing message, or {@code null} if the violation is not a duplicate user
+     */
+    static String duplicateMessage(DataIntegrityViolationException e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String detail = String.valueOf(cause.getMessage()).toLowerCase(Locale.ROOT);
+        if (USERNAME_KEYS.stream().anyMatch(detail::contains)) {
+            return USERNAME_EXISTS;
+        }
+        if (EMAIL_KEYS.stream().anyMatch(detail::contains)) {
+            return EMAIL_EXISTS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,204 @@
+package com.rewardSystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the request hot paths at startup so C2 has compiled them before the first real request.
+ *
+ * Application runners finish before Spring Boot reports the readiness state as accepting traffic, so
+ * {@code /actuator/health/readiness} stays down until the warm-up is over. Each iteration computes
+ * rewards for a synthetic, in-memory set of transactions with {@link RewardServiceImpl#computeRewards},
+ * serializes them with the application's {@link ObjectMapper} and issues and verifies a JWT. Nothing is
+ * read from or written to the database.
+ *
+ * Iterations run in rounds of {@code warmup.round-iterations}. The warm-up ends once at least
+ * {@code warmup.min-iterations} have run and the mean iteration time has changed by no more than
+ * {@code warmup.tolerance} for {@code warmup.stable-rounds} consecutive rounds, or after
+ * {@code warmup.max-duration-ms}; the minimum keeps an early plateau at C1 speed from ending it. The
+ * duration is logged and published as {@code warmup.duration}.
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.customers:100}")
+    private int customers;
+
+    @Value("${warmup.transactions:1000}")
+    private int transactions;
+
+    @Value("${warmup.min-iterations:1000}")
+    private int minIterations;
+
+    @Value("${warmup.round-iterations:20}")
+    private int roundIterations;
+
+    @Value("${warmup.stable-rounds:3}")
+    private int stableRounds;
+
+    @Value("${warmup.tolerance:0.1}")
+    private double tolerance;
+
+    @Value("${warmup.max-duration-ms:30000}")
+    private long maxDurationMs;
+
+    private final RewardPipelineMetrics metrics = RewardPipelineMetrics.noop();
+    private final User syntheticUser = syntheticUser();
+    private boolean tokensEnabled = true;
+
+    private volatile long durationNanos;
+    private volatile int rounds;
+    private volatile boolean stabilized;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            logger.info("JIT warm-up disabled");
+            return;
+        }
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency; it must not keep the instance from serving
+            logger.warn("JIT warm-up aborted after {} rounds: {}", rounds, e.getMessage(), e);
+        }
+    }
+
+    void warmUp() {
+        LocalDate windowStart = RewardServiceImpl.rewardWindowStart();
+        List<TransactionView> dataset = syntheticTransactions(windowStart);
+        logger.info("Starting JIT warm-up on {} synthetic transactions for {} customers", dataset.size(), customers);
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        double previous = -1;
+        int stable = 0;
+        long sink = 0;
+
+        while (System.nanoTime() < deadline) {
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < roundIterations; i++) {
+                sink += iteration(dataset, windowStart);
+            }
+            double mean = (double) (System.nanoTime() - roundStart) / roundIterations;
+            rounds++;
+
+            stable = previous > 0 && Math.abs(mean - previous) <= tolerance * previous ? stable + 1 : 0;
+            previous = mean;
+            if (stable >= stableRounds && (long) rounds * roundIterations >= minIterations) {
+                stabilized = true;
+                break;
+            }
+        }
+
+        durationNanos = System.nanoTime() - started;
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (stabilized) {
+            logger.info("JIT warm-up finished in {} ms after {} rounds, {} us per iteration",
+                    durationMs, rounds, Math.round(previous / 1000));
+        } else {
+            logger.warn("JIT warm-up stopped after {} ms and {} rounds without stabilizing, {} us per iteration",
+                    durationMs, rounds, Math.round(previous / 1000));
+        }
+        logger.trace("Warm-up checksum {}", sink);
+    }
+
+    /**
+     * One request's worth of work; returns a value derived from every stage so none is optimized away.
+     */
+    private long iteration(List<TransactionView> dataset, LocalDate windowStart) {
+        List<RewardPoints> rewards = RewardServiceImpl.computeRewards(dataset, windowStart, metrics);
+        long result = rewards.size();
+        try {
+            result += objectMapper.writeValueAsBytes(rewards).length;
+        } catch (Exception e) {
+            throw new IllegalStateException("Rewards serialization failed during warm-up", e);
+        }
+        if (tokensEnabled) {
+            try {
+                String token = jwtTokenProvider.generateToken(syntheticUser);
+                result += jwtTokenProvider.parseAndVerify(token).getSubject().length();
+            } catch (RuntimeException e) {
+                tokensEnabled = false;
+                logger.warn("Skipping token verification in the warm-up: {}", e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private List<TransactionView> syntheticTransactions(LocalDate windowStart) {
+        SplittableRandom random = new SplittableRandom(42);
+        // Spread over the window and the month before it, so the window filter drops some rows
+        LocalDate from = windowStart.minusMonths(1);
+        int days = (int) (LocalDate.now().toEpochDay() - from.toEpochDay()) + 1;
+        List<TransactionView> dataset = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            dataset.add(new TransactionView(1 + random.nextInt(customers),
+                    Math.round(random.nextDouble(0, 250) * 100) / 100.0,
+                    from.plusDays(random.nextInt(days))));
+        }
+        return dataset;
+    }
+
+    private static User syntheticUser() {
+        User user = new User();
+        user.setUsername("warmup");
+        user.setRole(User.UserRole.ROLE_USER);
+        user.setTokenVersion(0L);
+        return user;
+    }
+
+    long getDurationMs() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    int getRounds() {
+        return rounds;
+    }
+
+    boolean isStabilized() {
+        return stabilized;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("warmup.duration", this, TimeUnit.NANOSECONDS, runner -> runner.durationNanos)
+                .description("Time spent warming up the request hot paths before readiness")
+                .register(registry);
+        Gauge.builder("warmup.rounds", this, runner -> runner.rounds)
+                .description("Warm-up rounds run before latency stabilized or the time limit was reached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,31 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto
+
+create table customer (
+    customer_id integer generated by default as identity,
+    customer_name varchar(255),
+    primary key (customer_id)
+);
+
+create table transactions (
+    id bigint generated by default as identity,
+    customer_id integer not null,
+    amount float(53) not null,
+    date date not null,
+    primary key (id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    email varchar(255) not null,
+    enabled boolean not null,
+    role varchar(255) not null check (role in ('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_USER')),
+    created_at bigint,
+    last_login bigint,
+    primary key (id)
+);
+
+-- Hibernate's generated names for @Column(unique = true)
+alter table users add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+alter table users add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
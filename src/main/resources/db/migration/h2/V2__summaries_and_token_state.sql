@@ -0,0 +1,33 @@
+-- Monthly summaries that old transactions are compacted into
+create table monthly_reward_summaries (
+    id bigint generated by default as identity,
+    customer_id integer not null,
+    summary_month varchar(7) not null,
+    points integer not null,
+    total_amount float(53) not null,
+    transaction_count bigint not null,
+    primary key (id),
+    constraint uk_summary_customer_month unique (customer_id, summary_month)
+);
+
+-- Token ids revoked by logout, kept until the token would have expired
+create table revoked_tokens (
+    jti varchar(36) not null,
+    username varchar(255) not null,
+    expires_at bigint not null,
+    revoked_at bigint not null,
+    primary key (jti)
+);
+
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+-- Token state checked against the role and version claims of each JWT
+alter table users add column updated_at bigint;
+alter table users add column token_version bigint not null default 0;
+
+-- Stable names, so duplicate registrations can be told apart from the database error.
+-- Recreated rather than renamed, since H2 reports violations by the name of the backing index.
+alter table users drop constraint UK_r43af9ap4edm43mmtq01oddj6;
+alter table users drop constraint UK_6dotkott2kjsp8vw4d0m25fb7;
+alter table users add constraint uk_users_username unique (username);
+alter table users add constraint uk_users_email unique (email);
@@ -0,0 +1,2 @@
+-- The revocation list syncs tokens revoked since its last poll
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
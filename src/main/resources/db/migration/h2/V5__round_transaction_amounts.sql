@@ -0,0 +1,2 @@
+-- Amounts are stored in whole cents, so every reward engine awards the same points for them
+update transactions set amount = round(amount, 2) where amount <> round(amount, 2);
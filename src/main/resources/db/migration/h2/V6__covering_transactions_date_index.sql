@@ -0,0 +1,4 @@
+-- Reward scans, window loads and the columnar window checksum read only these columns by date,
+-- so they are answered from the index; it also serves the date-only filters of the index it replaces
+create index idx_transactions_date_customer_amount on transactions (date, customer_id, amount);
+drop index idx_transactions_date;
@@ -0,0 +1,32 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto.
+-- Databases created that way are baselined at this version and only receive later migrations.
+
+create table customer (
+    customer_id integer not null auto_increment,
+    customer_name varchar(255),
+    primary key (customer_id)
+) engine=InnoDB;
+
+create table transactions (
+    id bigint not null auto_increment,
+    customer_id integer not null,
+    amount float(53) not null,
+    date date not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    email varchar(255) not null,
+    enabled bit not null,
+    role enum ('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_USER') not null,
+    created_at bigint,
+    last_login bigint,
+    primary key (id)
+) engine=InnoDB;
+
+-- Hibernate's generated names for @Column(unique = true)
+alter table users add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+alter table users add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
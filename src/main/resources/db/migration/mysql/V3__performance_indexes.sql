@@ -0,0 +1,8 @@
+-- Reward scans and retention filter on date alone
+create index idx_transactions_date on transactions (date);
+
+-- Per-customer lookups bounded by date
+create index idx_transactions_customer_date on transactions (customer_id, date);
+
+-- Token version refresh polls for users changed since the last sync
+create index idx_users_updated_at on users (updated_at);
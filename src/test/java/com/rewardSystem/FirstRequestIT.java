@@ -0,0 +1,158 @@
+package com.rewardSystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time-to-first-successful-request of the fast-startup build, relative to the same build started plainly.
+ *
+ * Launches the AOT-processed application from {@code target/cds} with its AppCDS archive, as production
+ * would, plus the training-only H2 module from {@code training.args}, and measures from process start
+ * until an authenticated {@code GET /v1/api/rewards} succeeds. That request needs the web server,
+ * Flyway, JPA, Security and JJWT to be up. The same classpath is then launched without the archive
+ * and with {@code spring.aot.enabled=false}, and each launch keeps its best of
+ * {@code startup.first-request.runs}.
+ *
+ * Both launches run on the same machine, so the check does not depend on how fast the runner is: the
+ * build fails when AOT + CDS takes more than {@code startup.first-request.max-ratio} of the plain
+ * time. {@code startup.first-request.max-ms} is only a generous guard against a hung start.
+ *
+ * Runs under failsafe with {@code mvn -Paot verify}.
+ */
+@DisplayName("Time To First Request Integration Test")
+class FirstRequestIT {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should serve the first request faster with AOT + CDS than without")
+    void testTimeToFirstRequest() throws Exception {
+        // Arrange
+        Path cdsDirectory = Path.of(System.getProperty("cds.directory", "target/cds"));
+        Path launchArgs = cdsDirectory.resolve("launch.args");
+        assumeTrue(Files.exists(launchArgs), "Build with -Paot to produce " + launchArgs);
+        double maxRatio = Double.parseDouble(System.getProperty("startup.first-request.max-ratio", "0.9"));
+        long maxMs = Long.getLong("startup.first-request.max-ms", 60000);
+        int runs = Integer.getInteger("startup.first-request.runs", 2);
+
+        List<String> fastStart = new ArrayList<>(List.of(
+                "-XX:SharedArchiveFile=" + cdsDirectory.resolve("application.jsa"),
+                "-Xlog:cds=error",
+                "@" + cdsDirectory.resolve("training.args").toAbsolutePath(),
+                "@" + launchArgs.toAbsolutePath()));
+        List<String> plainStart = new ArrayList<>(List.of(
+                "@" + cdsDirectory.resolve("training.args").toAbsolutePath()));
+        for (String arg : Files.readString(launchArgs).trim().split("\\s+")) {
+            plainStart.add(arg.equals("-Dspring.aot.enabled=true") ? "-Dspring.aot.enabled=false" : arg);
+        }
+
+        // Act
+        long plainMs = Long.MAX_VALUE;
+        long fastMs = Long.MAX_VALUE;
+        for (int run = 0; run < runs; run++) {
+            plainMs = Math.min(plainMs, timeToFirstRequest(cdsDirectory, plainStart, maxMs));
+            fastMs = Math.min(fastMs, timeToFirstRequest(cdsDirectory, fastStart, maxMs));
+        }
+        double ratio = (double) fastMs / plainMs;
+        System.out.printf("Time to first successful request: %d ms with AOT + CDS, %d ms plain (ratio %.2f, max %.2f)%n",
+                fastMs, plainMs, ratio, maxRatio);
+
+        // Assert
+        assertTrue(ratio <= maxRatio, "AOT + CDS took " + fastMs + " ms against " + plainMs
+                + " ms plain, a ratio of " + String.format("%.2f", ratio) + " (max " + maxRatio + ")");
+    }
+
+    /**
+     * Starts the application with {@code launch} and returns the milliseconds until an authenticated
+     * rewards request succeeds.
+     */
+    private long timeToFirstRequest(Path cdsDirectory, List<String> launch, long maxMs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch);
+        command.addAll(Arrays.asList(System.getProperty("cds.training.arguments", "").trim().split("\\s+")));
+        command.add("--server.port=" + port);
+        // HS512 needs a key of at least 64 bytes
+        command.add("--jwt.secret=" + "first-request-it-signing-key-".repeat(3));
+        command.add("--logging.level.root=WARN");
+        command.add("--logging.level.com.rewardSystem=INFO");
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(cdsDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(cdsDirectory.resolve("first-request-it.log").toFile());
+
+        long started = System.nanoTime();
+        Process process = builder.start();
+        try {
+            String token = registerAdmin(port, process, started + TimeUnit.MILLISECONDS.toNanos(maxMs));
+            HttpResponse<String> rewards = client.send(HttpRequest.newBuilder(uri(port, "/v1/api/rewards"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, rewards.statusCode(), rewards.body());
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Polls {@code /auth/register} until the server accepts connections and returns the issued token.
+     */
+    private String registerAdmin(int port, Process process, long deadline) throws Exception {
+        String body = "{\"username\":\"startup\",\"email\":\"startup@example.com\",\"password\":\"startup-secret\","
+                + "\"confirmPassword\":\"startup-secret\",\"role\":\"ROLE_ADMIN\"}";
+        HttpRequest request = HttpRequest.newBuilder(uri(port, "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        while (System.nanoTime() < deadline) {
+            assertTrue(process.isAlive(), () -> "Application exited with " + process.exitValue()
+                    + ", see first-request-it.log");
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                assertEquals(201, response.statusCode(), response.body());
+                JsonNode json = objectMapper.readTree(response.body());
+                return json.get("token").asText();
+            } catch (ConnectException e) {
+                Thread.sleep(20);
+            }
+        }
+        throw new AssertionError("Application did not accept connections in time");
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
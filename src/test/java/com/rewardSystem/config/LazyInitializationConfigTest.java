@@ -0,0 +1,48 @@
+package com.rewardSystem.config;
+
+import com.rewardSystem.controller.AdminController;
+import com.rewardSystem.exception.GlobalExceptionHandler;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.security.TokenRevocationList;
+import com.rewardSystem.service.LastLoginRecorder;
+import com.rewardSystem.service.TransactionRetentionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LazyInitializationConfig Test Suite")
+class LazyInitializationConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = LazyInitializationConfig.readinessCriticalBeans();
+
+    @Test
+    @DisplayName("Should keep the security chain and password encoder eager")
+    void testSecurityBeansAreEager() {
+        // Act & Assert
+        assertTrue(filter.isExcluded("securityFilterChain", null, DefaultSecurityFilterChain.class));
+        assertTrue(filter.isExcluded("passwordEncoder", null, DelegatingPasswordEncoder.class));
+    }
+
+    @Test
+    @DisplayName("Should keep beans with scheduled jobs eager")
+    void testScheduledBeansAreEager() {
+        // Act & Assert
+        assertTrue(filter.isExcluded("transactionRetentionService", null, TransactionRetentionService.class));
+        assertTrue(filter.isExcluded("lastLoginRecorder", null, LastLoginRecorder.class));
+        assertTrue(filter.isExcluded("tokenRevocationList", null, TokenRevocationList.class));
+    }
+
+    @Test
+    @DisplayName("Should leave controllers, advice and repositories lazy")
+    void testOtherBeansAreLazy() {
+        // Act & Assert
+        assertFalse(filter.isExcluded("adminController", null, AdminController.class));
+        assertFalse(filter.isExcluded("globalExceptionHandler", null, GlobalExceptionHandler.class));
+        assertFalse(filter.isExcluded("customerRepository", null, CustomerRepository.class));
+        assertFalse(filter.isExcluded("unknown", null, null));
+    }
+}
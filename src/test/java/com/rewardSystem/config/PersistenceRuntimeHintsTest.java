@@ -0,0 +1,54 @@
+package com.rewardSystem.config;
+
+import com.rewardSystem.entity.TransactionView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PersistenceRuntimeHints Test Suite")
+class PersistenceRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new PersistenceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should allow field access and construction of every entity")
+    void testEntityHints() {
+        // Act & Assert
+        for (Class<?> entity : PersistenceRuntimeHints.ENTITIES) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(entity)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                    .test(hints), entity.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow the JPQL constructor expressions to build every projection")
+    void testProjectionHint() {
+        // Act & Assert
+        assertTrue(PersistenceRuntimeHints.PROJECTIONS.contains(TransactionView.class));
+        for (Class<?> projection : PersistenceRuntimeHints.PROJECTIONS) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(projection)
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                    .test(hints), projection.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should include the Flyway migration scripts")
+    void testMigrationHints() {
+        // Act & Assert
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/h2/V1__baseline_schema.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V3__performance_indexes.sql").test(hints));
+    }
+}
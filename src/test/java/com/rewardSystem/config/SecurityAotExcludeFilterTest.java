@@ -0,0 +1,39 @@
+package com.rewardSystem.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SecurityAotExcludeFilter Test Suite")
+class SecurityAotExcludeFilterTest {
+
+    @Test
+    @DisplayName("Should exclude only the request transformer from AOT processing")
+    void testExcludesRequestTransformer() {
+        // Arrange
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition(SecurityAotExcludeFilter.REQUEST_TRANSFORMER, new RootBeanDefinition(Object.class));
+        beanFactory.registerBeanDefinition("springSecurityFilterChain", new RootBeanDefinition(Object.class));
+        SecurityAotExcludeFilter filter = new SecurityAotExcludeFilter();
+
+        // Act & Assert
+        assertTrue(filter.isExcludedFromAotProcessing(
+                RegisteredBean.of(beanFactory, SecurityAotExcludeFilter.REQUEST_TRANSFORMER)));
+        assertFalse(filter.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "springSecurityFilterChain")));
+    }
+
+    @Test
+    @DisplayName("Should be registered for AOT processing")
+    void testRegisteredInAotFactories() {
+        // Act & Assert
+        assertTrue(SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(BeanRegistrationExcludeFilter.class).stream()
+                .anyMatch(SecurityAotExcludeFilter.class::isInstance));
+    }
+}
@@ -0,0 +1,66 @@
+package com.rewardSystem.controller;
+
+import com.rewardSystem.dto.ErrorResponse;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.service.AuthenticationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticationController Test Suite")
+class AuthenticationControllerTest {
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @InjectMocks
+    private AuthenticationController authenticationController;
+
+    @Test
+    @DisplayName("Should return 204 when the token is revoked")
+    void testLogout() {
+        // Act
+        ResponseEntity<?> response = authenticationController.logout("Bearer token");
+
+        // Assert
+        assertEquals(204, response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("Should return 400 with the reason for a token that cannot be revoked")
+    void testLogoutInvalidToken() {
+        // Arrange
+        doThrow(new DataProcessingException("Invalid token")).when(authenticationService).logout("token");
+
+        // Act
+        ResponseEntity<?> response = authenticationController.logout("Bearer token");
+
+        // Assert
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals("Invalid token", ((ErrorResponse) response.getBody()).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return 500 without database details when revoking fails")
+    void testLogoutHidesDatabaseError() {
+        // Arrange
+        doThrow(new DataIntegrityViolationException("Duplicate entry 'abc' for key 'revoked_tokens.PRIMARY'"))
+                .when(authenticationService).logout("token");
+
+        // Act
+        ResponseEntity<?> response = authenticationController.logout("Bearer token");
+
+        // Assert
+        assertEquals(500, response.getStatusCode().value());
+        assertEquals("Logout failed", ((ErrorResponse) response.getBody()).getMessage());
+    }
+}
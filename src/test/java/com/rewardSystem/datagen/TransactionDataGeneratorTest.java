@@ -0,0 +1,170 @@
+package com.rewardSystem.datagen;
+
+import com.rewardSystem.entity.CustomerTranscation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransactionDataGenerator Test Suite")
+class TransactionDataGeneratorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Test
+    @DisplayName("Should generate identical rows for the same seed")
+    void testDeterministicForSeed() {
+        // Arrange
+        DatasetSpec spec = new DatasetSpec(5000, 100, 1.0, FROM, TO, 7);
+
+        // Act
+        List<CustomerTranscation> first = new TransactionDataGenerator(spec).toList();
+        List<CustomerTranscation> second = new TransactionDataGenerator(spec).toList();
+
+        // Assert
+        assertEquals(5000, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getCustomerId(), second.get(i).getCustomerId());
+            assertEquals(first.get(i).getAmount(), second.get(i).getAmount());
+            assertEquals(first.get(i).getDate(), second.get(i).getDate());
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate different rows for different seeds")
+    void testDifferentSeedsDiffer() {
+        List<CustomerTranscation> first = new TransactionDataGenerator(new DatasetSpec(100, 100, 1.0, FROM, TO, 1)).toList();
+        List<CustomerTranscation> second = new TransactionDataGenerator(new DatasetSpec(100, 100, 1.0, FROM, TO, 2)).toList();
+
+        assertNotEquals(first.stream().map(CustomerTranscation::getCustomerId).toList(),
+                second.stream().map(CustomerTranscation::getCustomerId).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep customers, amounts and dates within the requested ranges")
+    void testValuesWithinRanges() {
+        // Act
+        List<CustomerTranscation> rows = new TransactionDataGenerator(new DatasetSpec(20000, 50, 1.0, FROM, TO, 3)).toList();
+
+        // Assert
+        assertTrue(rows.stream().allMatch(t -> t.getCustomerId() >= 1 && t.getCustomerId() <= 50));
+        assertTrue(rows.stream().allMatch(t -> t.getAmount() > 0));
+        assertTrue(rows.stream().allMatch(t -> !t.getDate().isBefore(FROM) && !t.getDate().isAfter(TO)));
+    }
+
+    @Test
+    @DisplayName("Should cluster amounts around the 50 and 100 tier thresholds")
+    void testAmountsAroundThresholds() {
+        // Act
+        List<CustomerTranscation> rows = new TransactionDataGenerator(new DatasetSpec(20000, 50, 0, FROM, TO, 3)).toList();
+
+        // Assert
+        long below50 = rows.stream().filter(t -> t.getAmount() < 50).count();
+        long between = rows.stream().filter(t -> t.getAmount() >= 50 && t.getAmount() <= 100).count();
+        long above100 = rows.stream().filter(t -> t.getAmount() > 100).count();
+        assertTrue(below50 > 4000 && between > 4000 && above100 > 4000);
+        assertTrue(rows.stream().anyMatch(t -> t.getAmount() == 50.0));
+        assertTrue(rows.stream().anyMatch(t -> t.getAmount() == 100.01));
+    }
+
+    @Test
+    @DisplayName("Should concentrate activity on top customers with a Zipf exponent")
+    void testZipfSkew() {
+        // Act
+        Map<Integer, Long> uniform = countByCustomer(new DatasetSpec(50000, 1000, 0, FROM, TO, 5));
+        Map<Integer, Long> skewed = countByCustomer(new DatasetSpec(50000, 1000, 1.1, FROM, TO, 5));
+
+        // Assert
+        assertTrue(uniform.getOrDefault(1, 0L) < 200);
+        assertTrue(skewed.getOrDefault(1, 0L) > 5000);
+        assertTrue(skewed.getOrDefault(1, 0L) > skewed.getOrDefault(10, 0L));
+    }
+
+    @Test
+    @DisplayName("Should sample ranks within bounds from the Zipf distribution")
+    void testZipfDistributionBounds() {
+        ZipfDistribution zipf = new ZipfDistribution(10, 2.0);
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10000; i++) {
+            int rank = zipf.sample(random);
+            assertTrue(rank >= 1 && rank <= 10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write CSV rows with header")
+    void testCsvSink() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetSpec spec = new DatasetSpec(3, 10, 1.0, FROM, TO, 11);
+        List<CustomerTranscation> expected = new TransactionDataGenerator(spec).toList();
+
+        // Act
+        try (CsvTransactionSink sink = new CsvTransactionSink(out, FROM, TO)) {
+            new TransactionDataGenerator(spec).generate(sink);
+        }
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals("customer_id,amount,date", lines[0]);
+        assertEquals(4, lines.length);
+        String[] first = lines[1].split(",");
+        assertEquals(expected.get(0).getCustomerId(), Integer.parseInt(first[0]));
+        assertEquals(expected.get(0).getAmount(), Double.parseDouble(first[1]));
+        assertEquals(expected.get(0).getDate(), LocalDate.parse(first[2]));
+    }
+
+    @Test
+    @DisplayName("Should insert the same rows in parallel JDBC batches")
+    void testParallelJdbcSink() throws Exception {
+        // Arrange
+        String url = "jdbc:h2:mem:datagen;DB_CLOSE_DELAY=-1";
+        DatasetSpec spec = new DatasetSpec(TransactionDataGenerator.PARTITION_ROWS + 1000L, 200, 1.0, FROM, TO, 13);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transactions (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "customer_id INT NOT NULL, amount DOUBLE NOT NULL, date DATE NOT NULL)");
+
+            // Act
+            new TransactionDataGenerator(spec).generateParallel(2,
+                    () -> {
+                        try {
+                            return new JdbcTransactionSink(DriverManager.getConnection(url, "sa", ""), 5000);
+                        } catch (SQLException e) {
+                            throw new IOException(e);
+                        }
+                    });
+
+            // Assert
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*), SUM(amount) FROM transactions")) {
+                assertTrue(rs.next());
+                assertEquals(spec.rows(), rs.getLong(1));
+                double expectedSum = new TransactionDataGenerator(spec).toList().stream()
+                        .mapToDouble(CustomerTranscation::getAmount).sum();
+                assertEquals(expectedSum, rs.getDouble(2), 0.01 * spec.rows() / 1000);
+            }
+            statement.execute("DROP TABLE transactions");
+        }
+    }
+
+    private static Map<Integer, Long> countByCustomer(DatasetSpec spec) {
+        return new TransactionDataGenerator(spec).toList().stream()
+                .collect(Collectors.groupingBy(CustomerTranscation::getCustomerId, Collectors.counting()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.rewardSystem.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadReplicaRoutingDataSource Test Suite")
+class ReadReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(16)); INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE node (name VARCHAR(16)); INSERT INTO node VALUES ('replica');"
+                + "CREATE TABLE replica_lag (seconds BIGINT); INSERT INTO replica_lag VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag", 5);
+        lagMonitor.checkLag();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replica, lagMonitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void testReadOnlyGoesToReplica() {
+        assertEquals("replica", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions to the primary")
+    void testReadWriteGoesToPrimary() {
+        assertEquals("primary", readWriteTx.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Should route work outside a transaction to the primary")
+    void testNoTransactionGoesToPrimary() {
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary when replica lag exceeds the threshold")
+    void testFallsBackWhenLagging() {
+        // Arrange
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+
+        // Act
+        lagMonitor.checkLag();
+
+        // Assert
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals(30, lagMonitor.getLastLagSeconds());
+        assertEquals("primary", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Should return to the replica once lag recovers")
+    void testRecoversAfterLag() {
+        // Arrange
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        lagMonitor.checkLag();
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 1");
+
+        // Act
+        lagMonitor.checkLag();
+
+        // Assert
+        assertTrue(lagMonitor.isReplicaUsable());
+        assertEquals("replica", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary when the lag query fails")
+    void testFallsBackWhenReplicaUnreachable() {
+        // Arrange
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+
+        // Act
+        lagMonitor.checkLag();
+
+        // Assert
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -180,5 +180,29 @@ class CustomExceptionsTest {
         assertEquals(cause, new DataProcessingException("Error", cause).getCause());
         assertEquals(cause, new InternalServerException("Error", cause).getCause());
     }
-}
 
+    @Test
+    @DisplayName("ServiceUnavailableException should carry a retry-after hint")
+    void testServiceUnavailableException() {
+        // Act
+        ServiceUnavailableException exception = new ServiceUnavailableException("Login capacity exhausted", 3);
+
+        // Assert
+        assertEquals("Login capacity exhausted", exception.getMessage());
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1, new ServiceUnavailableException("busy").getRetryAfterSeconds());
+        assertTrue(exception instanceof RuntimeException);
+    }
+
+    @Test
+    @DisplayName("TooManyRequestsException should carry a retry-after hint")
+    void testTooManyRequestsException() {
+        // Act
+        TooManyRequestsException exception = new TooManyRequestsException("Too many concurrent login attempts", 2);
+
+        // Assert
+        assertEquals("Too many concurrent login attempts", exception.getMessage());
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertTrue(exception instanceof RuntimeException);
+    }
+}
@@ -88,6 +88,40 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().getTimestamp());
     }
 
+    @Test
+    @DisplayName("Should handle ServiceUnavailableException with 503 status and Retry-After")
+    void testHandleServiceUnavailableException() {
+        // Arrange
+        ServiceUnavailableException exception = new ServiceUnavailableException("Login capacity exhausted", 2);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServiceUnavailableException(exception, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst("Retry-After"));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().getStatus());
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().getError());
+    }
+
+    @Test
+    @DisplayName("Should handle TooManyRequestsException with 429 status and Retry-After")
+    void testHandleTooManyRequestsException() {
+        // Arrange
+        TooManyRequestsException exception = new TooManyRequestsException("Too many concurrent login attempts");
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleTooManyRequestsException(exception, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertNotNull(response.getBody());
+        assertEquals(429, response.getBody().getStatus());
+        assertEquals("TOO_MANY_REQUESTS", response.getBody().getError());
+    }
+
     @Test
     @DisplayName("Should handle IllegalArgumentException with 400 status")
     void testHandleIllegalArgumentException() {
@@ -0,0 +1,68 @@
+package com.rewardSystem.metrics;
+
+import com.rewardSystem.metrics.RewardPipelineMetrics.Phase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RewardPipelineMetrics Test Suite")
+class RewardPipelineMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private RewardPipelineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new RewardPipelineMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should register one timer per pipeline phase")
+    void testRegistersPhaseTimers() {
+        for (Phase phase : Phase.values()) {
+            assertNotNull(registry.find("rewards.pipeline.phase")
+                    .tag("phase", phase.name().toLowerCase()).timer());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record elapsed time for a phase")
+    void testRecordsPhase() {
+        // Act
+        metrics.record(Phase.FETCH, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Assert
+        var timer = registry.get("rewards.pipeline.phase").tag("phase", "fetch").timer();
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 5);
+    }
+
+    @Test
+    @DisplayName("Should expose rows scanned and customers produced for the last run")
+    void testRecordsRunGauges() {
+        // Act
+        metrics.recordRun(1200, 35);
+
+        // Assert
+        assertEquals(1200, registry.get("rewards.pipeline.rows.scanned").gauge().value());
+        assertEquals(35, registry.get("rewards.pipeline.customers.produced").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should accumulate processed transactions and awarded points")
+    void testRecordsComputedCounters() {
+        // Act
+        metrics.recordComputed(100, 2500);
+        metrics.recordComputed(50, 500);
+
+        // Assert
+        assertEquals(150, registry.get("rewards.pipeline.transactions.processed").counter().count());
+        assertEquals(3000, registry.get("rewards.pipeline.points.awarded").counter().count());
+    }
+}
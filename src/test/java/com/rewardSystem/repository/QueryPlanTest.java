@@ -0,0 +1,198 @@
+package com.rewardSystem.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL behind every {@link TransactionsRepository}, {@link UserRepository} and
+ * {@link RevokedTokenRepository} query against the Flyway schema, and fails if H2 plans any of them as a full table scan.
+ *
+ * The SQL is captured from Hibernate as the repository method runs, so a query that changes shape or
+ * an index dropped from the migrations shows up here rather than as a slow endpoint.
+ */
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.rewardSystem.repository.QueryPlanTest$CapturingStatementInspector")
+@DisplayName("Repository Query Plan Test Suite")
+class QueryPlanTest {
+
+    /**
+     * H2 annotates each table access with the index it uses and the index conditions after a colon.
+     * A scan shows up as {@code tableScan} or as an index without conditions, e.g. the primary key
+     * walked in order to satisfy an {@code order by id}.
+     */
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*PUBLIC\\.[^:\\s*]+\\s*\\*/");
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByDateBetween", () -> transactionsRepository.findByDateBetween(FROM, TO));
+        queries.put("findViewsSince", () -> transactionsRepository.findViewsSince(FROM));
+        queries.put("findViewsBetween", () -> transactionsRepository.findViewsBetween(FROM, TO));
+        queries.put("sumPointsByCustomerAndMonthSince",
+                () -> transactionsRepository.sumPointsByCustomerAndMonthSince(FROM));
+        queries.put("windowStatisticsSince", () -> transactionsRepository.windowStatisticsSince(FROM));
+        queries.put("windowChecksumSince", () -> transactionsRepository.windowChecksumSince(FROM));
+        queries.put("windowChecksumBetween", () -> transactionsRepository.windowChecksumBetween(FROM, TO));
+        queries.put("countByDateGreaterThanEqual", () -> transactionsRepository.countByDateGreaterThanEqual(FROM));
+        queries.put("findFirstByDateBeforeOrderByDateAsc",
+                () -> transactionsRepository.findFirstByDateBeforeOrderByDateAsc(TO));
+        queries.put("findChunkInRange",
+                () -> transactionsRepository.findChunkInRange(FROM, TO, PageRequest.of(0, 500)));
+        queries.put("sumAmountInRange", () -> transactionsRepository.sumAmountInRange(FROM, TO));
+        queries.put("countInRange", () -> transactionsRepository.countInRange(FROM, TO));
+        queries.put("findByUsername", () -> userRepository.findByUsername("alice"));
+        queries.put("findByEmail", () -> userRepository.findByEmail("alice@example.com"));
+        queries.put("existsByUsername", () -> userRepository.existsByUsername("alice"));
+        queries.put("existsByEmail", () -> userRepository.existsByEmail("alice@example.com"));
+        queries.put("findByUpdatedAtGreaterThanEqual", () -> userRepository.findByUpdatedAtGreaterThanEqual(0L));
+        queries.put("findByExpiresAtGreaterThan", () -> revokedTokenRepository.findByExpiresAtGreaterThan(0L));
+        queries.put("findByRevokedAtGreaterThanEqual", () -> revokedTokenRepository.findByRevokedAtGreaterThanEqual(0L));
+        queries.put("deleteExpired", () -> revokedTokenRepository.deleteExpired(0L));
+        return queries;
+    }
+
+    static Stream<String> queryNames() {
+        return Stream.of(TransactionsRepository.class, UserRepository.class, RevokedTokenRepository.class)
+                .flatMap(QueryPlanTest::declaredQueries)
+                .sorted();
+    }
+
+    @Test
+    @DisplayName("Should have a plan check for every declared repository query")
+    void testEveryQueryIsCovered() {
+        // Arrange
+        Set<String> declared = queryNames().collect(Collectors.toCollection(TreeSet::new));
+
+        // Act
+        Set<String> covered = new TreeSet<>(queries().keySet());
+
+        // Assert
+        assertEquals(declared, covered, "Add new repository queries to QueryPlanTest.queries()");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryNames")
+    @DisplayName("Should not plan a full table scan")
+    void testQueryUsesIndex(String query) {
+        // Arrange
+        CapturingStatementInspector.clear();
+
+        // Act
+        queries().get(query).run();
+        List<String> statements = CapturingStatementInspector.statements();
+
+        // Assert
+        assertFalse(statements.isEmpty(), "No SQL captured for " + query);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(FULL_SCAN.matcher(plan).find(), query + " scans a whole table:\n" + plan);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"windowChecksumSince", "windowChecksumBetween"})
+    @DisplayName("Should plan the columnar window checksums on the covering date index")
+    void testChecksumUsesCoveringIndex(String query) {
+        // Arrange
+        CapturingStatementInspector.clear();
+
+        // Act
+        queries().get(query).run();
+
+        // Assert
+        for (String sql : CapturingStatementInspector.statements()) {
+            String plan = explain(sql);
+            assertTrue(plan.contains("IDX_TRANSACTIONS_DATE_CUSTOMER_AMOUNT"), query + " misses the index:\n" + plan);
+        }
+    }
+
+    /**
+     * Plans {@code sql} with every parameter bound to null; H2 picks indexes from the predicates,
+     * not from the bound values.
+     */
+    private String explain(String sql) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql,
+                statement -> {
+                    for (int i = 1; i <= parameters; i++) {
+                        statement.setObject(i, null);
+                    }
+                },
+                rs -> {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                });
+    }
+
+    private static Stream<String> declaredQueries(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic() && !method.isDefault())
+                .map(Method::getName);
+    }
+
+    /**
+     * Records the SQL Hibernate prepares so the test can plan exactly what the repository runs.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
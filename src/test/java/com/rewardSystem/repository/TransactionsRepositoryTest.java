@@ -1,6 +1,7 @@
 package com.rewardSystem.repository;
 
 import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.WindowChecksum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -127,6 +128,24 @@ class TransactionsRepositoryTest {
         assertEquals(2, count);
     }
 
+    @Test
+    @DisplayName("Should checksum the transactions from a date onwards and within a range")
+    void testWindowChecksum() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        transactionsRepository.save(new CustomerTranscation(1, 120.25, from.minusDays(1)));
+        transactionsRepository.save(new CustomerTranscation(2, 75.5, from));
+        transactionsRepository.save(new CustomerTranscation(3, 0.1, from.plusDays(3)));
+
+        // Act
+        WindowChecksum checksum = transactionsRepository.windowChecksumSince(from);
+
+        // Assert
+        assertEquals(new WindowChecksum(2, 7_560, 5), checksum);
+        assertEquals(new WindowChecksum(0, 0, 0), transactionsRepository.windowChecksumSince(from.plusYears(1)));
+        assertEquals(new WindowChecksum(1, 7_550, 2), transactionsRepository.windowChecksumBetween(from, from.plusDays(2)));
+    }
+
     @Test
     @DisplayName("Should handle transactions with same customer ID")
     void testMultipleTransactionsSameCustomer() {
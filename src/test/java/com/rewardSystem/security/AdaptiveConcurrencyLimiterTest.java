@@ -0,0 +1,138 @@
+package com.rewardSystem.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Test Suite")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 2, 10, 2.0, 0.5, 4, now::get);
+    }
+
+    @Test
+    @DisplayName("Should reject immediately once the limit is in flight")
+    void testRejectsOverLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        // Act
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit third = limiter.tryAcquire();
+        first.success();
+        AdaptiveConcurrencyLimiter.Permit fourth = limiter.tryAcquire();
+
+        // Assert
+        assertNotNull(second);
+        assertNull(third);
+        assertNotNull(fourth);
+        assertEquals(1, limiter.getRejected());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at the no-load level")
+    void testIncreasesWhenHealthy() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        // Act
+        runWindow(limiter, 4, 10);
+        runWindow(limiter, 4, 10);
+
+        // Assert
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off when latency exceeds the tolerance")
+    void testBacksOffOnLatency() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+        runWindow(limiter, 4, 10);
+        int before = limiter.getLimit();
+
+        // Act
+        runWindow(limiter, 4, 50);
+
+        // Assert
+        assertEquals(before / 2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off on drops and never fall below the minimum")
+    void testBacksOffOnDropsToMinimum() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        // Act
+        for (int window = 0; window < 5; window++) {
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire().dropped();
+            }
+        }
+
+        // Assert
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shed requests over the budget with 503 and leave other paths alone")
+    void testFilterShedsWith503() throws Exception {
+        // Arrange
+        ConcurrencyLimitProperties.Budget budget = new ConcurrencyLimitProperties.Budget();
+        budget.setName("rewards");
+        budget.setPaths(List.of("/v1/api/rewards/**"));
+        budget.setInitialLimit(1);
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setBudgets(List.of(budget));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(properties,
+                new ObjectMapper().registerModule(new JavaTimeModule()), registry);
+        AdaptiveConcurrencyLimiter.Permit held = filter.limiters().get(0).tryAcquire();
+
+        // Act
+        MockHttpServletResponse rewards = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/api/rewards"), rewards, new MockFilterChain());
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/api/rewards-summary"), other, new MockFilterChain());
+        held.success();
+
+        // Assert
+        assertEquals(503, rewards.getStatus());
+        assertEquals("1", rewards.getHeader("Retry-After"));
+        assertEquals(200, other.getStatus());
+        assertEquals(1.0, registry.get("concurrency_limit.rejected").tag("budget", "rewards")
+                .functionCounter().count());
+        assertEquals(0.0, registry.get("concurrency_limit.in_flight").tag("budget", "rewards").gauge().value());
+    }
+
+    /**
+     * Completes {@code concurrency} overlapping requests that each take {@code latencyMillis}.
+     */
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+        now.addAndGet(latencyMillis * MILLIS);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+    }
+}
@@ -0,0 +1,79 @@
+package com.rewardSystem.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BCryptCostCalibrator Test Suite")
+class BCryptCostCalibratorTest {
+
+    private static BCryptCostCalibrator calibrator(int fixedCost, long budgetMs, int minCost, int maxCost) {
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator();
+        ReflectionTestUtils.setField(calibrator, "fixedCost", fixedCost);
+        ReflectionTestUtils.setField(calibrator, "latencyBudgetMs", budgetMs);
+        ReflectionTestUtils.setField(calibrator, "minCost", minCost);
+        ReflectionTestUtils.setField(calibrator, "maxCost", maxCost);
+        ReflectionTestUtils.setField(calibrator, "costTolerance", 1);
+        return calibrator;
+    }
+
+    @Test
+    @DisplayName("Should use a configured cost without calibrating")
+    void testFixedCost() {
+        // Arrange
+        BCryptCostCalibrator calibrator = calibrator(12, 1, 4, 14);
+
+        // Act
+        calibrator.init();
+
+        // Assert
+        assertEquals(12, calibrator.getCost());
+        assertEquals(11, calibrator.getMinAcceptedCost());
+        assertEquals(13, calibrator.getMaxAcceptedCost());
+    }
+
+    @Test
+    @DisplayName("Should reject a configured cost BCrypt does not support")
+    void testRejectsInvalidFixedCost() {
+        assertThrows(IllegalStateException.class, () -> calibrator(3, 50, 4, 14).init());
+        assertThrows(IllegalStateException.class, () -> calibrator(32, 50, 4, 14).init());
+        assertThrows(IllegalStateException.class, () -> calibrator(-1, 50, 4, 14).init());
+    }
+
+    @Test
+    @DisplayName("Should keep the minimum cost when even that exceeds the budget")
+    void testKeepsMinimumCost() {
+        // Arrange
+        BCryptCostCalibrator calibrator = calibrator(0, 0, 4, 6);
+
+        // Act
+        calibrator.init();
+
+        // Assert
+        assertEquals(4, calibrator.getCost());
+    }
+
+    @Test
+    @DisplayName("Should not exceed the maximum cost with a generous budget")
+    void testCapsAtMaximumCost() {
+        // Arrange
+        BCryptCostCalibrator calibrator = calibrator(0, 10_000, 4, 5);
+
+        // Act
+        calibrator.init();
+
+        // Assert
+        assertEquals(5, calibrator.getCost());
+        assertEquals(4, calibrator.getMinAcceptedCost());
+        assertEquals(5, calibrator.getMaxAcceptedCost());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid cost range")
+    void testRejectsInvalidRange() {
+        assertThrows(IllegalStateException.class, () -> calibrator(0, 50, 12, 10).init());
+        assertThrows(IllegalStateException.class, () -> calibrator(0, 50, 3, 10).init());
+    }
+}
@@ -0,0 +1,78 @@
+package com.rewardSystem.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClientAddressResolver Test Suite")
+class ClientAddressResolverTest {
+
+    private ClientAddressResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = newResolver("X-Forwarded-For", "");
+    }
+
+    private static ClientAddressResolver newResolver(String header, String trustedProxies) {
+        ClientAddressResolver created = new ClientAddressResolver();
+        ReflectionTestUtils.setField(created, "header", header);
+        ReflectionTestUtils.setField(created, "trustedProxies", trustedProxies);
+        created.init();
+        return created;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should take the forwarded client behind a private proxy")
+    void testResolvesBehindProxy() {
+        // Act & Assert
+        assertEquals("203.0.113.7", resolver.resolve(request("10.0.0.5", "203.0.113.7")));
+        assertEquals("198.51.100.2", resolver.resolve(request("10.0.0.5", "198.51.100.2")));
+    }
+
+    @Test
+    @DisplayName("Should skip trusted hops and ignore what the client prepended")
+    void testSkipsTrustedHops() {
+        // Act & Assert
+        assertEquals("203.0.113.7", resolver.resolve(request("10.0.0.5", "1.2.3.4, 203.0.113.7, 172.16.0.9")));
+    }
+
+    @Test
+    @DisplayName("Should ignore the header from an untrusted address")
+    void testIgnoresHeaderFromClient() {
+        // Act & Assert
+        assertEquals("203.0.113.7", resolver.resolve(request("203.0.113.7", "1.2.3.4")));
+    }
+
+    @Test
+    @DisplayName("Should use the remote address without a header or with resolution off")
+    void testFallsBackToRemoteAddress() {
+        // Act & Assert
+        assertEquals("10.0.0.5", resolver.resolve(request("10.0.0.5", null)));
+        assertEquals("10.0.0.5", newResolver("", "").resolve(request("10.0.0.5", "203.0.113.7")));
+    }
+
+    @Test
+    @DisplayName("Should trust only the configured proxies when set")
+    void testConfiguredProxies() {
+        // Arrange
+        ClientAddressResolver configured = newResolver("X-Forwarded-For", "198\\.51\\.100\\.\\d+");
+
+        // Act & Assert
+        assertEquals("203.0.113.7", configured.resolve(request("198.51.100.10", "203.0.113.7")));
+        assertEquals("10.0.0.5", configured.resolve(request("10.0.0.5", "203.0.113.7")));
+    }
+}
@@ -0,0 +1,75 @@
+package com.rewardSystem.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CostAwareBCryptPasswordEncoder Test Suite")
+class CostAwareBCryptPasswordEncoderTest {
+
+    private final CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+    @Test
+    @DisplayName("Should ask to re-encode hashes with a lower or higher cost")
+    void testUpgradesAndDowngrades() {
+        // Arrange
+        String lower = new BCryptPasswordEncoder(4).encode("secret");
+        String same = encoder.encode("secret");
+        String higher = new BCryptPasswordEncoder(6).encode("secret");
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(same));
+        assertTrue(encoder.upgradeEncoding(higher));
+        assertTrue(encoder.matches("secret", higher));
+    }
+
+    @Test
+    @DisplayName("Should keep hashes whose cost is inside the accepted band")
+    void testKeepsHashesInsideBand() {
+        // Arrange: written at 5 on this host, hashes from 4 to 6 are accepted fleet-wide
+        CostAwareBCryptPasswordEncoder banded = new CostAwareBCryptPasswordEncoder(5, 4, 6);
+        String lower = new BCryptPasswordEncoder(4).encode("secret");
+        String higher = new BCryptPasswordEncoder(6).encode("secret");
+        String outside = new BCryptPasswordEncoder(7).encode("secret");
+
+        // Act & Assert
+        assertFalse(banded.upgradeEncoding(lower));
+        assertFalse(banded.upgradeEncoding(higher));
+        assertTrue(banded.upgradeEncoding(outside));
+        assertTrue(banded.encode("secret").startsWith("$2a$05$"));
+        assertThrows(IllegalArgumentException.class, () -> new CostAwareBCryptPasswordEncoder(7, 4, 6));
+    }
+
+    @Test
+    @DisplayName("Should reject hashes that are not BCrypt")
+    void testRejectsNonBCryptHashes() {
+        assertFalse(encoder.upgradeEncoding(""));
+        assertThrows(IllegalArgumentException.class, () -> encoder.upgradeEncoding("plain-text"));
+    }
+
+    @Test
+    @DisplayName("Should match legacy unprefixed hashes and ask to re-encode them")
+    void testDelegatingEncoderUpgradesLegacyHashes() {
+        // Arrange
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", encoder));
+        delegating.setDefaultPasswordEncoderForMatches(encoder);
+        PasswordEncoder legacy = new BCryptPasswordEncoder(5);
+        String legacyHash = legacy.encode("secret");
+
+        // Act
+        String current = delegating.encode("secret");
+
+        // Assert
+        assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(delegating.matches("secret", legacyHash));
+        assertTrue(delegating.upgradeEncoding(legacyHash));
+        assertFalse(delegating.upgradeEncoding(current));
+    }
+}
@@ -0,0 +1,151 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.User;
+import com.rewardSystem.entity.UserSavedEvent;
+import com.rewardSystem.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailsService Test Suite")
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(userDetailsService, "cacheTtlSeconds", 300L);
+        userDetailsService.init();
+
+        alice = new User();
+        alice.setUsername("alice");
+        alice.setPassword("hash");
+        alice.setEnabled(true);
+        alice.setRole(User.UserRole.ROLE_MANAGER);
+        alice.setTokenVersion(2L);
+    }
+
+    @Test
+    @DisplayName("Should load a user from the repository only once")
+    void testCachesUser() {
+        // Arrange
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("alice");
+        UserDetails second = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("alice", second.getUsername());
+        assertEquals("hash", second.getPassword());
+        assertEquals(2L, ((AuthenticatedUser) second).getTokenVersion());
+        assertNotSame(first, second);
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("Should not let erased credentials leak into later lookups")
+    void testErasedCredentialsDoNotAffectCache() {
+        // Arrange
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        UserDetails first = userDetailsService.loadUserByUsername("alice");
+
+        // Act
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertNull(first.getPassword());
+        assertEquals("hash", second.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should reload a user after it has been saved")
+    void testEvictsOnSave() {
+        // Arrange
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        userDetailsService.loadUserByUsername("alice");
+        alice.setRole(User.UserRole.ROLE_ADMIN);
+
+        // Act
+        userDetailsService.onUserSaved(UserSavedEvent.of(alice));
+        UserDetails reloaded = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("ROLE_ADMIN", reloaded.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("Should reject disabled users and not cache unknown ones")
+    void testRejectsDisabledAndUnknownUsers() {
+        // Arrange
+        alice.setEnabled(false);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("alice"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counts")
+    void testPublishesCacheMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userDetailsService.bindTo(registry);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+
+        // Act
+        userDetailsService.loadUserByUsername("alice");
+        userDetailsService.loadUserByUsername("alice");
+        userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals(2, registry.get("cache.gets").tags("cache", "user-details", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "user-details", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should store a re-encoded password and return it to the caller")
+    void testUpdatePassword() {
+        // Arrange
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        UserDetails current = userDetailsService.loadUserByUsername("alice");
+
+        // Act
+        UserDetails updated = userDetailsService.updatePassword(current, "{bcrypt}new-hash");
+
+        // Assert
+        assertEquals("{bcrypt}new-hash", updated.getPassword());
+        assertEquals("{bcrypt}new-hash", alice.getPassword());
+        verify(userRepository).save(alice);
+    }
+}
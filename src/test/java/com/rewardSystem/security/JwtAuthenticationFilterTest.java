@@ -0,0 +1,147 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Test Suite")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "testSecretKeyForJwtAuthenticationFilterThatIsLongEnoughForHs512Signatures0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheTtlSeconds", 300L);
+        tokenProvider.init();
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, tokenVersionRegistry,
+                tokenRevocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filterWithToken(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rewards");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static User user(long tokenVersion) {
+        User user = new User();
+        user.setUsername("alice");
+        user.setRole(User.UserRole.ROLE_ADMIN);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should authenticate from token claims without loading the user")
+    void testAuthenticatesFromClaims() throws Exception {
+        // Arrange
+        when(tokenVersionRegistry.isCurrent("alice", "ROLE_ADMIN", 2L)).thenReturn(true);
+
+        // Act
+        Authentication authentication = filterWithToken(tokenProvider.generateToken(user(2)));
+
+        // Assert
+        assertNotNull(authentication);
+        assertEquals("alice", authentication.getName());
+        assertTrue(authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a token superseded by a newer version")
+    void testRejectsSupersededToken() throws Exception {
+        // Arrange
+        when(tokenVersionRegistry.isCurrent("alice", "ROLE_ADMIN", 1L)).thenReturn(false);
+
+        // Act
+        Authentication authentication = filterWithToken(tokenProvider.generateToken(user(1)));
+
+        // Assert
+        assertNull(authentication);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a revoked token")
+    void testRejectsRevokedToken() throws Exception {
+        // Arrange
+        String token = tokenProvider.generateToken(user(0));
+        when(tokenRevocationList.isRevoked(tokenProvider.parseAndVerify(token).getId())).thenReturn(true);
+
+        // Act
+        Authentication authentication = filterWithToken(token);
+
+        // Assert
+        assertNull(authentication);
+        verifyNoInteractions(tokenVersionRegistry, userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should load the user for tokens issued without role and version claims")
+    void testFallsBackToUserStoreForLegacyTokens() throws Exception {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(new AuthenticatedUser(
+                "alice", "hash", true, List.of(new SimpleGrantedAuthority("ROLE_USER")), 0));
+
+        // Act
+        Authentication authentication = filterWithToken(tokenProvider.generateTokenFromUsername("alice"));
+
+        // Assert
+        assertNotNull(authentication);
+        assertEquals("alice", authentication.getName());
+        verifyNoInteractions(tokenVersionRegistry);
+        verify(tokenRevocationList).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a token with an invalid signature")
+    void testRejectsInvalidToken() throws Exception {
+        // Act
+        Authentication authentication = filterWithToken("not-a-jwt");
+
+        // Assert
+        assertNull(authentication);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+}
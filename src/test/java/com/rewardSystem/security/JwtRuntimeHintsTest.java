@@ -0,0 +1,55 @@
+package com.rewardSystem.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtRuntimeHints Test Suite")
+class JwtRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new JwtRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should only name JJWT classes that exist on the classpath")
+    void testImplementationClassesExist() {
+        // Act & Assert
+        for (String className : JwtRuntimeHints.IMPLEMENTATION_CLASSES) {
+            assertTrue(ClassUtils.isPresent(className, getClass().getClassLoader()), className);
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow reflective construction of the JJWT builders and parser")
+    void testReflectionHints() {
+        // Act & Assert
+        for (String className : JwtRuntimeHints.IMPLEMENTATION_CLASSES) {
+            assertTrue(RuntimeHintsPredicates.reflection()
+                    .onType(TypeReference.of(className))
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                    .test(hints), className);
+        }
+    }
+
+    @Test
+    @DisplayName("Should include the service files JJWT loads its JSON support from")
+    void testServiceFileHints() {
+        // Act & Assert
+        for (String file : JwtRuntimeHints.SERVICE_FILES) {
+            assertNotNull(getClass().getClassLoader().getResource(file), file);
+            assertTrue(RuntimeHintsPredicates.resource().forResource(file).test(hints), file);
+        }
+    }
+}
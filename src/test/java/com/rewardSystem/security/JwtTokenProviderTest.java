@@ -0,0 +1,136 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtTokenProvider Test Suite")
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "testSecretKeyForJwtTokenProviderThatIsLongEnoughForHs512Signatures0123456789";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = newProvider(86_400_000);
+    }
+
+    private static JwtTokenProvider newProvider(int expirationMs) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtlSeconds", 300L);
+        provider.init();
+        return provider;
+    }
+
+    @Test
+    @DisplayName("Should return the subject of a freshly issued token")
+    void testParseAndVerifyRoundTrip() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("alice");
+
+        // Act
+        Claims claims = tokenProvider.parseAndVerify(token);
+
+        // Assert
+        assertEquals("alice", claims.getSubject());
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals("alice", tokenProvider.getUsernameFromToken(token));
+    }
+
+    @Test
+    @DisplayName("Should embed role and token version claims for a user")
+    void testEmbedsRoleAndVersionClaims() {
+        // Arrange
+        User user = new User();
+        user.setUsername("alice");
+        user.setRole(User.UserRole.ROLE_MANAGER);
+        user.setTokenVersion(7L);
+
+        // Act
+        Claims claims = tokenProvider.parseAndVerify(tokenProvider.generateToken(user));
+
+        // Assert
+        assertEquals("ROLE_MANAGER", claims.get(JwtTokenProvider.ROLE_CLAIM, String.class));
+        assertEquals(7L, claims.get(JwtTokenProvider.VERSION_CLAIM, Long.class));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated verifications of the same token from the cache")
+    void testCachesVerifiedClaims() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("alice");
+
+        // Act
+        Claims first = tokenProvider.parseAndVerify(token);
+        Claims second = tokenProvider.parseAndVerify(token);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void testRejectsTamperedToken() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("alice");
+        int index = token.lastIndexOf('.') + 10;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> tokenProvider.parseAndVerify(tampered));
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with a different key")
+    void testRejectsForeignToken() {
+        // Arrange
+        JwtTokenProvider other = newProvider(86_400_000);
+        ReflectionTestUtils.setField(other, "jwtSecret", SECRET.replace('t', 'x'));
+        other.init();
+        String token = other.generateTokenFromUsername("alice");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> tokenProvider.parseAndVerify(token));
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void testRejectsExpiredToken() {
+        // Arrange
+        JwtTokenProvider shortLived = newProvider(-1000);
+        String token = shortLived.generateTokenFromUsername("alice");
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> shortLived.parseAndVerify(token));
+        assertTrue(shortLived.isTokenExpired(token));
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached token once it has expired")
+    void testCachedTokenExpires() throws InterruptedException {
+        // Arrange
+        JwtTokenProvider shortLived = newProvider(1500);
+        String token = shortLived.generateTokenFromUsername("alice");
+        assertEquals("alice", shortLived.parseAndVerify(token).getSubject());
+
+        // Act
+        Thread.sleep(1600);
+
+        // Assert
+        assertThrows(ExpiredJwtException.class, () -> shortLived.parseAndVerify(token));
+    }
+}
@@ -0,0 +1,127 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.exception.ServiceUnavailableException;
+import com.rewardSystem.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordVerificationExecutor Test Suite")
+class PasswordVerificationExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerificationExecutor executor;
+
+    private PasswordVerificationExecutor newExecutor(int threads, int queueCapacity, int perClient, long timeoutMs) {
+        PasswordVerificationExecutor created = new PasswordVerificationExecutor();
+        ReflectionTestUtils.setField(created, "threads", threads);
+        ReflectionTestUtils.setField(created, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(created, "maxInFlightPerClient", perClient);
+        ReflectionTestUtils.setField(created, "timeoutMs", timeoutMs);
+        created.init();
+        return created;
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<String> blockInBackground(String clientKey) {
+        return CompletableFuture.supplyAsync(() -> executor.execute(clientKey, () -> {
+            release.await();
+            return "done";
+        }));
+    }
+
+    @Test
+    @DisplayName("Should run the task off the calling thread and return its result")
+    void testRunsOnPool() {
+        // Arrange
+        executor = newExecutor(1, 1, 2, 5000);
+
+        // Act
+        String threadName = executor.execute("client", () -> Thread.currentThread().getName());
+
+        // Assert
+        assertTrue(threadName.startsWith("password-verify-"));
+    }
+
+    @Test
+    @DisplayName("Should rethrow authentication failures unchanged")
+    void testRethrowsRuntimeExceptions() {
+        // Arrange
+        executor = newExecutor(1, 1, 2, 5000);
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> executor.execute("client", () -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 when the pool and queue are full")
+    void testRejectsWhenSaturated() throws Exception {
+        // Arrange
+        executor = newExecutor(1, 1, 10, 5000);
+        CompletableFuture<String> running = blockInBackground("a");
+        CompletableFuture<String> queued = blockInBackground("b");
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor, "executor");
+        waitUntil(() -> pool.getActiveCount() == 1 && pool.getQueue().size() == 1);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> executor.execute("c", () -> "never"));
+        release.countDown();
+        assertEquals("done", running.get(5, TimeUnit.SECONDS));
+        assertEquals("done", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject with 429 when one client has too many logins in flight")
+    void testLimitsPerClient() throws Exception {
+        // Arrange
+        executor = newExecutor(4, 4, 1, 5000);
+        CompletableFuture<String> first = blockInBackground("noisy");
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor, "executor");
+        waitUntil(() -> pool.getActiveCount() == 1);
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> executor.execute("noisy", () -> "never"));
+        assertEquals("other", executor.execute("quiet", () -> "other"));
+        release.countDown();
+        assertEquals("done", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should give up with 503 when verification takes too long")
+    void testTimesOut() {
+        // Arrange
+        executor = newExecutor(1, 1, 2, 50);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> executor.execute("client", () -> {
+            release.await();
+            return "late";
+        }));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.rewardSystem.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimiter Test Suite")
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(SECOND);
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                rule("/auth/**", null, RateLimitProperties.KeyType.IP, 1, 2),
+                rule("/v1/api/**", "ROLE_ADMIN", RateLimitProperties.KeyType.PRINCIPAL, 10, 10),
+                rule("/v1/api/**", null, RateLimitProperties.KeyType.PRINCIPAL, 2, 3)));
+        rateLimiter = new RateLimiter(properties, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should admit a burst and then reject until a permit is earned")
+    void testBurstThenRefill() {
+        // Arrange
+        Authentication alice = user("alice", "ROLE_USER");
+
+        // Act
+        long[] waits = new long[4];
+        for (int i = 0; i < waits.length; i++) {
+            waits[i] = rateLimiter.acquire("/v1/api/rewards", alice, "10.0.0.1");
+        }
+        now.addAndGet(SECOND / 2);
+        long afterRefill = rateLimiter.acquire("/v1/api/rewards", alice, "10.0.0.1");
+
+        // Assert
+        assertEquals(0, waits[0]);
+        assertEquals(0, waits[1]);
+        assertEquals(0, waits[2]);
+        assertEquals(SECOND / 2, waits[3]);
+        assertEquals(0, afterRefill);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per principal even behind one address")
+    void testBucketsPerPrincipal() {
+        // Arrange
+        Authentication alice = user("alice", "ROLE_USER");
+        Authentication bob = user("bob", "ROLE_USER");
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire("/v1/api/rewards", alice, "10.0.0.1");
+        }
+
+        // Act & Assert
+        assertTrue(rateLimiter.acquire("/v1/api/rewards", alice, "10.0.0.1") > 0);
+        assertEquals(0, rateLimiter.acquire("/v1/api/rewards", bob, "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Should apply the first rule matching the principal's role")
+    void testRoleSpecificRule() {
+        // Arrange
+        Authentication admin = user("admin", "ROLE_ADMIN");
+
+        // Act
+        int admitted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.acquire("/v1/api/rewards", admin, "10.0.0.1") == 0) {
+                admitted++;
+            }
+        }
+
+        // Assert
+        assertEquals(10, admitted);
+    }
+
+    @Test
+    @DisplayName("Should key auth endpoints by address and leave unmatched paths alone")
+    void testAuthKeyedByAddress() {
+        // Act
+        rateLimiter.acquire("/auth/login", null, "10.0.0.1");
+        rateLimiter.acquire("/auth/login", user("alice", "ROLE_USER"), "10.0.0.1");
+        long third = rateLimiter.acquire("/auth/login", null, "10.0.0.1");
+        long otherAddress = rateLimiter.acquire("/auth/login", null, "10.0.0.2");
+        long unmatched = rateLimiter.acquire("/public/info", null, "10.0.0.1");
+
+        // Assert
+        assertTrue(third > 0);
+        assertEquals(0, otherAddress);
+        assertEquals(0, unmatched);
+    }
+
+    @Test
+    @DisplayName("Should admit exactly the burst under concurrent access")
+    void testConcurrentAcquire() throws Exception {
+        // Arrange
+        Authentication admin = user("admin", "ROLE_ADMIN");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (rateLimiter.acquire("/v1/api/rewards", admin, "10.0.0.1") == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(10, admitted.get());
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once the limit is exceeded")
+    void testFilterRejectsWith429() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, clientAddressResolver(), objectMapper);
+        SecurityContextHolder.getContext().setAuthentication(user("alice", "ROLE_USER"));
+        MockHttpServletResponse response = null;
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/rewards");
+            response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+        }
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("Should keep separate IP buckets for clients behind one proxy")
+    void testFilterBucketsPerForwardedClient() throws Exception {
+        // Arrange
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, clientAddressResolver(),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        MockHttpServletResponse[] aliceResponses = new MockHttpServletResponse[3];
+
+        // Act: /auth/** allows a burst of two per client
+        for (int i = 0; i < aliceResponses.length; i++) {
+            aliceResponses[i] = new MockHttpServletResponse();
+            filter.doFilter(fromProxy("203.0.113.7"), aliceResponses[i], new MockFilterChain());
+        }
+        MockHttpServletResponse bobResponse = new MockHttpServletResponse();
+        filter.doFilter(fromProxy("198.51.100.2"), bobResponse, new MockFilterChain());
+
+        // Assert
+        assertEquals(200, aliceResponses[1].getStatus());
+        assertEquals(429, aliceResponses[2].getStatus());
+        assertEquals(200, bobResponse.getStatus(), "a client behind the same proxy has its own bucket");
+    }
+
+    @Test
+    @DisplayName("Should reject rules without a positive rate")
+    void testRejectsInvalidRule() {
+        // Arrange
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("/v1/api/**", null, RateLimitProperties.KeyType.PRINCIPAL, 0, 1)));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(properties));
+    }
+
+    private static ClientAddressResolver clientAddressResolver() {
+        ClientAddressResolver resolver = new ClientAddressResolver();
+        ReflectionTestUtils.setField(resolver, "header", "X-Forwarded-For");
+        ReflectionTestUtils.setField(resolver, "trustedProxies", "");
+        resolver.init();
+        return resolver;
+    }
+
+    private static MockHttpServletRequest fromProxy(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.5");
+        request.addHeader("X-Forwarded-For", client);
+        return request;
+    }
+
+    private static RateLimitProperties.Rule rule(String path, String role, RateLimitProperties.KeyType key,
+                                                 double permitsPerSecond, int burst) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPath(path);
+        rule.setRole(role);
+        rule.setKey(key);
+        rule.setPermitsPerSecond(permitsPerSecond);
+        rule.setBurst(burst);
+        return rule;
+    }
+
+    private static Authentication user(String username, String role) {
+        return new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.RevokedToken;
+import com.rewardSystem.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationList Test Suite")
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @InjectMocks
+    private TokenRevocationList revocationList;
+
+    @Test
+    @DisplayName("Should persist a revocation and reject the token immediately")
+    void testRevoke() {
+        // Act
+        revocationList.revoke("jti-1", "alice", System.currentTimeMillis() + 60_000);
+
+        // Assert
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertFalse(revocationList.isRevoked("jti-2"));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("Should load unexpired revocations at startup")
+    void testLoad() {
+        // Arrange
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(revokedTokenRepository.findByExpiresAtGreaterThan(anyLong())).thenReturn(List.of(
+                new RevokedToken("jti-1", "alice", expiresAt, 0L),
+                new RevokedToken("jti-2", "bob", expiresAt, 0L)));
+
+        // Act
+        revocationList.load();
+
+        // Assert
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertTrue(revocationList.isRevoked("jti-2"));
+        assertEquals(2, revocationList.size());
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations made on other instances")
+    void testSync() {
+        // Arrange
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqual(anyLong())).thenReturn(List.of(
+                new RevokedToken("jti-remote", "alice", System.currentTimeMillis() + 60_000, 0L)));
+
+        // Act
+        revocationList.sync();
+
+        // Assert
+        assertTrue(revocationList.isRevoked("jti-remote"));
+    }
+
+    @Test
+    @DisplayName("Should drop expired revocations on purge")
+    void testPurge() throws InterruptedException {
+        // Arrange
+        revocationList.revoke("short", "alice", System.currentTimeMillis() + 50);
+        revocationList.revoke("long", "alice", System.currentTimeMillis() + 60_000);
+        Thread.sleep(100);
+
+        // Act
+        revocationList.purge();
+
+        // Assert
+        assertFalse(revocationList.isRevoked("short"));
+        assertTrue(revocationList.isRevoked("long"));
+        assertEquals(1, revocationList.size());
+        verify(revokedTokenRepository).deleteExpired(anyLong());
+    }
+}
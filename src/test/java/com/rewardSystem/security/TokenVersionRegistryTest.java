@@ -0,0 +1,125 @@
+package com.rewardSystem.security;
+
+import com.rewardSystem.entity.User;
+import com.rewardSystem.entity.UserSavedEvent;
+import com.rewardSystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenVersionRegistry Test Suite")
+class TokenVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TokenVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "maxSize", 100L);
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 300L);
+        registry.init();
+    }
+
+    private static User user(String username, User.UserRole role, boolean enabled, long tokenVersion) {
+        User user = new User();
+        user.setUsername(username);
+        user.setRole(role);
+        user.setEnabled(enabled);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should load an unknown user once and answer later checks from memory")
+    void testLoadsUnknownUserOnce() {
+        // Arrange
+        when(userRepository.findByUsername("alice"))
+                .thenReturn(Optional.of(user("alice", User.UserRole.ROLE_USER, true, 0)));
+
+        // Act
+        boolean first = registry.isCurrent("alice", "ROLE_USER", 0);
+        boolean second = registry.isCurrent("alice", "ROLE_USER", 0);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("Should forget a user deleted from the database once its entry expires")
+    void testForgetsDeletedUserAfterTtl() {
+        // Arrange
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 0L);
+        registry.init();
+        when(userRepository.findByUsername("alice"))
+                .thenReturn(Optional.of(user("alice", User.UserRole.ROLE_USER, true, 0)))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(registry.isCurrent("alice", "ROLE_USER", 0));
+        assertFalse(registry.isCurrent("alice", "ROLE_USER", 0));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens for users that do not exist")
+    void testRejectsUnknownUser() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertFalse(registry.isCurrent("ghost", "ROLE_USER", 0));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens after a version bump, role change or disable")
+    void testRejectsSupersededTokens() {
+        // Arrange
+        registry.onUserSaved(UserSavedEvent.of(user("alice", User.UserRole.ROLE_ADMIN, true, 0)));
+        assertTrue(registry.isCurrent("alice", "ROLE_ADMIN", 0));
+
+        // Act & Assert
+        registry.onUserSaved(UserSavedEvent.of(user("alice", User.UserRole.ROLE_ADMIN, true, 1)));
+        assertFalse(registry.isCurrent("alice", "ROLE_ADMIN", 0));
+        assertTrue(registry.isCurrent("alice", "ROLE_ADMIN", 1));
+
+        registry.onUserSaved(UserSavedEvent.of(user("alice", User.UserRole.ROLE_USER, true, 1)));
+        assertFalse(registry.isCurrent("alice", "ROLE_ADMIN", 1));
+
+        registry.onUserSaved(UserSavedEvent.of(user("alice", User.UserRole.ROLE_USER, false, 1)));
+        assertFalse(registry.isCurrent("alice", "ROLE_USER", 1));
+        verify(userRepository, never()).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("Should pick up changes made by other instances on refresh")
+    void testRefreshAppliesChangedUsers() {
+        // Arrange
+        registry.onUserSaved(UserSavedEvent.of(user("bob", User.UserRole.ROLE_MANAGER, true, 3)));
+        when(userRepository.findByUpdatedAtGreaterThanEqual(anyLong()))
+                .thenReturn(List.of(user("bob", User.UserRole.ROLE_MANAGER, true, 4)));
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertFalse(registry.isCurrent("bob", "ROLE_MANAGER", 3));
+        assertTrue(registry.isCurrent("bob", "ROLE_MANAGER", 4));
+    }
+}
@@ -0,0 +1,140 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.dto.RegisterRequest;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.repository.UserRepository;
+import com.rewardSystem.security.JwtTokenProvider;
+import com.rewardSystem.security.TokenRevocationList;
+import com.rewardSystem.security.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticationService Test Suite")
+class AuthenticationServiceTest {
+
+    private static final String SECRET =
+            "testSecretKeyForJwtTokenProviderThatIsLongEnoughForHs512Signatures0123456789";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private AuthenticationService authenticationService;
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        ReflectionTestUtils.setField(authenticationService, "jwtTokenProvider", tokenProvider);
+
+        user = new User();
+        user.setUsername("alice");
+        user.setRole(User.UserRole.ROLE_USER);
+        user.setEnabled(true);
+        user.setTokenVersion(2L);
+    }
+
+    @Test
+    @DisplayName("Should accept a current token that has not been revoked")
+    void testValidatesCurrentToken() {
+        // Arrange
+        String token = tokenProvider.generateToken(user);
+        when(tokenVersionRegistry.isCurrent("alice", "ROLE_USER", 2L)).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(authenticationService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a token revoked by logout")
+    void testRejectsRevokedToken() {
+        // Arrange
+        String token = tokenProvider.generateToken(user);
+        when(tokenRevocationList.isRevoked(anyString())).thenReturn(true);
+
+        // Act & Assert
+        assertFalse(authenticationService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a token superseded by a version bump")
+    void testRejectsSupersededToken() {
+        // Arrange
+        String token = tokenProvider.generateToken(user);
+        when(tokenVersionRegistry.isCurrent("alice", "ROLE_USER", 2L)).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(authenticationService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should check tokens without role and version claims against the user")
+    void testValidatesLegacyTokenAgainstUser() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("alice");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertTrue(authenticationService.validateToken(token));
+        user.setEnabled(false);
+        assertFalse(authenticationService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed token")
+    void testRejectsMalformedToken() {
+        // Act & Assert
+        assertFalse(authenticationService.validateToken("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("Should not return database details when registration fails")
+    void testRegisterHidesDatabaseError() {
+        // Arrange
+        when(passwordEncoder.encode("secret1")).thenReturn("hash");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Column 'password' cannot be null in table 'users'")));
+        RegisterRequest request = new RegisterRequest("alice", "alice@example.com", "secret1", "secret1", null);
+
+        // Act
+        DataProcessingException exception = assertThrows(DataProcessingException.class,
+                () -> authenticationService.register(request));
+
+        // Assert
+        assertEquals("Registration failed", exception.getMessage());
+    }
+}
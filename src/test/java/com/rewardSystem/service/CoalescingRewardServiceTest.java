@@ -0,0 +1,167 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoalescingRewardService Test Suite")
+class CoalescingRewardServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private CoalescingRewardService service;
+    private SimpleMeterRegistry registry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        service = new CoalescingRewardService();
+        ReflectionTestUtils.setField(service, "delegate", new BlockingRewardService());
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        ReflectionTestUtils.setField(service, "timeoutMs", 5_000L);
+        service.init();
+        registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        callers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run one computation for concurrent identical calls")
+    void testCoalescesConcurrentCalls() throws Exception {
+        // Arrange
+        List<Future<List<RewardPoints>>> results = new ArrayList<>();
+        results.add(callers.submit(service::findAllRewards));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        for (int i = 0; i < 7; i++) {
+            results.add(callers.submit(service::findAllRewards));
+        }
+        waitUntil(() -> calls("coalesced") == 7);
+        release.countDown();
+
+        // Assert
+        List<RewardPoints> first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<List<RewardPoints>> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(1.0, calls("executed"));
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new RewardPoints()));
+    }
+
+    @Test
+    @DisplayName("Should not share computations across different parameters or after completion")
+    void testDistinctKeysAndCompletedFlights() {
+        // Arrange
+        release.countDown();
+
+        // Act
+        service.findAllRewards();
+        service.findAllRewards();
+        service.findRewardsForPeriod(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+
+        // Assert
+        assertEquals(3, computations.get());
+        assertEquals(0.0, calls("coalesced"));
+        assertEquals(0.0, registry.get("rewards.single_flight.in_flight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should cancel the computation only once every caller has gone away")
+    void testCancelsWhenAllCallersLeave() throws Exception {
+        // Arrange
+        Future<List<RewardPoints>> first = callers.submit(service::findAllRewards);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<List<RewardPoints>> second = callers.submit(service::findAllRewards);
+        waitUntil(() -> calls("coalesced") == 1);
+
+        // Act
+        first.cancel(true);
+        Thread.sleep(100);
+        boolean interruptedAfterFirst = interrupted.getCount() == 0;
+        second.cancel(true);
+
+        // Assert
+        assertFalse(interruptedAfterFirst);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        waitUntil(() -> registry.get("rewards.single_flight.cancelled").functionCounter().count() == 1);
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the timeout")
+    void testTimesOut() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "timeoutMs", 50L);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> service.findAllRewards());
+    }
+
+    private double calls(String outcome) {
+        return registry.get("rewards.single_flight.calls").tag("outcome", outcome).functionCounter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private class BlockingRewardService implements RewardService {
+
+        @Override
+        public List<RewardPoints> findAllRewards() {
+            return compute();
+        }
+
+        @Override
+        public List<RewardPoints> findRewardsForPeriod(YearMonth from, YearMonth to) {
+            return compute();
+        }
+
+        private List<RewardPoints> compute() {
+            computations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted");
+            }
+            return new ArrayList<>(List.of(new RewardPoints()));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.TransactionSavedEvent;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.entity.WindowChecksum;
+import com.rewardSystem.repository.TransactionsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColumnarRewardWindow Test Suite")
+class ColumnarRewardWindowTest {
+
+    private static final WindowChecksum EMPTY = new WindowChecksum(0, 0, 0);
+
+    @Mock
+    private TransactionsRepository transactionsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ColumnarRewardWindow window;
+    private LocalDate windowStart;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        window = new ColumnarRewardWindow();
+        ReflectionTestUtils.setField(window, "transactionsRepository", transactionsRepository);
+        ReflectionTestUtils.setField(window, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(window, "maxRows", 1_000_000L);
+        windowStart = RewardServiceImpl.rewardWindowStart();
+        today = LocalDate.now();
+        lenient().when(transactionsRepository.findViewsBetween(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should load the window at startup a chunk at a time")
+    void testLoadsAtStartup() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(2L);
+        when(transactionsRepository.findViewsBetween(windowStart, windowStart.plusDays(6)))
+                .thenReturn(List.of(new TransactionView(1, 120.0, windowStart)));
+        when(transactionsRepository.findViewsSince(any()))
+                .thenReturn(List.of(new TransactionView(2, 75.5, today)));
+
+        // Act
+        window.run(new DefaultApplicationArguments());
+
+        // Assert
+        TransactionColumns columns = window.snapshot(windowStart);
+        assertNotNull(columns);
+        assertEquals(2, columns.size());
+        assertEquals(7_550, columns.amountCents(1));
+        assertNull(window.snapshot(windowStart.minusDays(1)), "rows before the window were never loaded");
+    }
+
+    @Test
+    @DisplayName("Should append committed transactions and grow when full")
+    void testAppendsSavedTransactions() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(0L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of());
+        window.run(new DefaultApplicationArguments());
+        int capacity = window.snapshot(windowStart).capacity();
+
+        // Act
+        for (int i = 0; i <= capacity; i++) {
+            window.onTransactionSaved(new TransactionSavedEvent(i, 60.0, today));
+        }
+
+        // Assert
+        TransactionColumns columns = window.snapshot(windowStart);
+        assertEquals(capacity + 1, columns.size());
+        assertEquals(capacity * 2, columns.capacity());
+    }
+
+    @Test
+    @DisplayName("Should drop the days that left the window when it rolls")
+    void testCompactsWhenWindowRolls() {
+        // Arrange: loaded a month earlier, so the current window starts later
+        LocalDate previousStart = windowStart.minusMonths(1);
+        when(transactionsRepository.countByDateGreaterThanEqual(previousStart)).thenReturn(2L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(
+                new TransactionView(1, 80.0, previousStart), new TransactionView(2, 90.0, today)));
+        window.reload(previousStart);
+        ReflectionTestUtils.setField(window, "started", true);
+        when(transactionsRepository.windowChecksumSince(any())).thenReturn(new WindowChecksum(1, 9_000, 2));
+        when(transactionsRepository.windowChecksumBetween(any(), any())).thenReturn(EMPTY);
+
+        // Act
+        window.maintain();
+
+        // Assert
+        TransactionColumns columns = window.snapshot(windowStart);
+        assertEquals(1, columns.size());
+        assertEquals(windowStart.toEpochDay(), columns.firstDay());
+        assertEquals(2, columns.customerId(0));
+    }
+
+    @Test
+    @DisplayName("Should reload when the row count drifts from the database")
+    void testReloadsOnDrift() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(0L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of());
+        window.run(new DefaultApplicationArguments());
+        when(transactionsRepository.windowChecksumSince(any())).thenReturn(new WindowChecksum(1, 15_000, 5));
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(1L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(new TransactionView(5, 150.0, today)));
+
+        // Act
+        window.maintain();
+
+        // Assert
+        assertEquals(1, window.snapshot(windowStart).size());
+    }
+
+    @Test
+    @DisplayName("Should reload when an amount changes without changing the row count")
+    void testReloadsOnUpdatedAmount() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(1L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(new TransactionView(5, 150.0, today)));
+        window.run(new DefaultApplicationArguments());
+        when(transactionsRepository.windowChecksumSince(any())).thenReturn(new WindowChecksum(1, 9_000, 5));
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(new TransactionView(5, 90.0, today)));
+
+        // Act
+        window.maintain();
+
+        // Assert
+        assertEquals(9_000, window.snapshot(windowStart).amountCents(0));
+    }
+
+    @Test
+    @DisplayName("Should not reload while the checksum matches the database")
+    void testKeepsWindowWhenInStep() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(1L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(new TransactionView(5, 150.0, today)));
+        window.run(new DefaultApplicationArguments());
+        TransactionColumns loaded = window.snapshot(windowStart);
+        when(transactionsRepository.windowChecksumSince(any())).thenReturn(new WindowChecksum(1, 15_000, 5));
+        when(transactionsRepository.windowChecksumBetween(any(), any())).thenReturn(EMPTY);
+
+        // Act
+        window.maintain();
+
+        // Assert
+        assertSame(loaded, window.snapshot(windowStart));
+        verify(transactionsRepository).windowChecksumSince(currentWeek());
+    }
+
+    @Test
+    @DisplayName("Should check one older week per run in turn and reload when it drifts")
+    void testChecksOlderWeeksInTurn() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(0L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of());
+        window.run(new DefaultApplicationArguments());
+        TransactionColumns loaded = window.snapshot(windowStart);
+        when(transactionsRepository.windowChecksumSince(any())).thenReturn(EMPTY);
+        when(transactionsRepository.windowChecksumBetween(any(), any())).thenReturn(EMPTY);
+
+        // Act
+        window.maintain();
+        window.maintain();
+        when(transactionsRepository.windowChecksumBetween(any(), any())).thenReturn(new WindowChecksum(1, 6_000, 3));
+        window.maintain();
+
+        // Assert
+        ArgumentCaptor<LocalDate> from = ArgumentCaptor.forClass(LocalDate.class);
+        verify(transactionsRepository, times(3)).windowChecksumBetween(from.capture(), any());
+        assertEquals(3, new HashSet<>(from.getAllValues()).size(), "each run checks a different week");
+        assertTrue(from.getAllValues().stream().allMatch(week -> week.isBefore(currentWeek())));
+        assertNotSame(loaded, window.snapshot(windowStart), "a drifted older week reloads the window");
+    }
+
+    private LocalDate currentWeek() {
+        long olderWeeks = ChronoUnit.DAYS.between(windowStart, today) / 7;
+        return windowStart.plusDays(olderWeeks * 7);
+    }
+
+    @Test
+    @DisplayName("Should not keep a window larger than the row limit")
+    void testStandsDownAboveLimit() {
+        // Arrange
+        ReflectionTestUtils.setField(window, "maxRows", 10L);
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(11L);
+
+        // Act
+        window.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertNull(window.snapshot(windowStart));
+        verify(transactionsRepository, never()).findViewsSince(any());
+    }
+
+    @Test
+    @DisplayName("Should keep serving from the database when the load fails")
+    void testSurvivesLoadFailure() {
+        // Arrange
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart))
+                .thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        window.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertNull(window.snapshot(windowStart));
+    }
+
+    @Test
+    @DisplayName("Should publish the rows held and the direct memory reserved")
+    void testPublishesGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        window.bindTo(registry);
+        when(transactionsRepository.countByDateGreaterThanEqual(windowStart)).thenReturn(1L);
+        when(transactionsRepository.findViewsSince(any())).thenReturn(List.of(new TransactionView(5, 150.0, today)));
+
+        // Act
+        window.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(1, registry.get("rewards.columnar.rows").gauge().value());
+        assertEquals(window.snapshot(windowStart).offHeapBytes(), registry.get("rewards.columnar.off-heap").gauge().value());
+    }
+}
@@ -0,0 +1,128 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.User;
+import com.rewardSystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import(LastLoginRecorder.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("LastLoginRecorder Test Suite")
+class LastLoginRecorderTest {
+
+    @Autowired
+    private LastLoginRecorder recorder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.saveAndFlush(user("alice", null));
+        userRepository.saveAndFlush(user("bob", 5_000L));
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest timestamp per user until flushed")
+    void testCoalescesToLatestTimestamp() {
+        // Arrange
+        recorder.record("alice", 2_000L);
+        recorder.record("alice", 3_000L);
+        recorder.record("alice", 1_000L);
+
+        // Act
+        recorder.flush();
+
+        // Assert
+        assertEquals(3_000L, lastLogin("alice"));
+        assertEquals(0, recorder.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should never move last login backwards")
+    void testDoesNotOverwriteNewerLastLogin() {
+        // Arrange
+        recorder.record("bob", 4_000L);
+
+        // Act
+        recorder.flush();
+
+        // Assert
+        assertEquals(5_000L, lastLogin("bob"));
+    }
+
+    @Test
+    @DisplayName("Should write every pending user in one batch")
+    void testFlushesAllUsersInOneBatch() {
+        // Arrange
+        JdbcTemplate template = mock(JdbcTemplate.class);
+        LastLoginRecorder isolated = recorderWith(template);
+        isolated.record("alice", 1_000L);
+        isolated.record("bob", 2_000L);
+
+        // Act
+        isolated.flush();
+        isolated.flush();
+
+        // Assert
+        verify(template, times(1)).batchUpdate(eq(LastLoginRecorder.UPDATE_SQL), argThat((List<Object[]> rows) -> rows.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Should keep pending timestamps when the batch fails")
+    void testRequeuesOnFailure() {
+        // Arrange
+        JdbcTemplate template = mock(JdbcTemplate.class);
+        when(template.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        LastLoginRecorder isolated = recorderWith(template);
+        isolated.record("alice", 1_000L);
+
+        // Act
+        isolated.flush();
+        isolated.record("alice", 500L);
+
+        // Assert
+        assertEquals(1, isolated.pendingCount());
+    }
+
+    private LastLoginRecorder recorderWith(JdbcTemplate template) {
+        LastLoginRecorder isolated = new LastLoginRecorder();
+        ReflectionTestUtils.setField(isolated, "jdbcTemplate", template);
+        return isolated;
+    }
+
+    private Long lastLogin(String username) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE username = ?", Long.class, username);
+    }
+
+    private static User user(String username, Long lastLogin) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("hash");
+        user.setEmail(username + "@example.com");
+        user.setRole(User.UserRole.ROLE_USER);
+        user.setLastLogin(lastLogin);
+        return user;
+    }
+}
@@ -0,0 +1,253 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import com.rewardSystem.repository.TransactionsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every engine must produce the in-memory engine's points. Runs without a test transaction so the
+ * parallel engine's workers, which use their own connections, see the seeded rows, and saves commit
+ * straight away for the columnar window.
+ */
+@DataJpaTest
+@Import({InMemoryRewardEngine.class, DbAggregateRewardEngine.class, ParallelPartitionedRewardEngine.class,
+        ColumnarRewardEngine.class, ColumnarRewardWindow.class, RewardPipelineMetrics.class, SimpleMeterRegistry.class})
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = {"rewards.engine.parallel.threads=3", "rewards.columnar.enabled=true"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Reward Engine Equivalence Test Suite")
+class RewardEngineEquivalenceTest {
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private InMemoryRewardEngine inMemoryEngine;
+
+    @Autowired
+    private DbAggregateRewardEngine dbAggregateEngine;
+
+    @Autowired
+    private ParallelPartitionedRewardEngine parallelEngine;
+
+    @Autowired
+    private ColumnarRewardEngine columnarEngine;
+
+    @Autowired
+    private ColumnarRewardWindow columnarWindow;
+
+    private LocalDate windowStart;
+
+    @BeforeEach
+    void setUp() {
+        transactionsRepository.deleteAll();
+        windowStart = RewardServiceImpl.rewardWindowStart();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionsRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "seed {0}")
+    @ValueSource(ints = {1, 2, 3})
+    @DisplayName("Should compute the same points with every engine")
+    void testEnginesAgree(int seed) {
+        // Arrange
+        seed(new SplittableRandom(seed), 40, 1500);
+
+        // Act
+        Map<Integer, String> expected = canonical(inMemoryEngine.computeRewards(windowStart));
+        Map<Integer, String> aggregated = canonical(dbAggregateEngine.computeRewards(windowStart));
+        Map<Integer, String> partitioned = canonical(parallelEngine.computeRewards(windowStart));
+        columnarWindow.reload(windowStart);
+        Map<Integer, String> columnar = canonical(columnarEngine.computeRewards(windowStart));
+
+        // Assert
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, aggregated);
+        assertEquals(expected, partitioned);
+        assertEquals(expected, columnar);
+    }
+
+    @Test
+    @DisplayName("Should agree in the columnar engine when customer ids are sparse")
+    void testColumnarSparseCustomerIds() {
+        // Arrange: ids far apart take the accumulator path instead of the dense arrays
+        LocalDate today = LocalDate.now();
+        transactionsRepository.saveAll(List.of(
+                new CustomerTranscation(1, 120.0, windowStart),
+                new CustomerTranscation(50_000_000, 75.0, today),
+                new CustomerTranscation(50_000_000, 20.0, windowStart.plusMonths(1)),
+                new CustomerTranscation(2_000_000_000, 300.0, today)));
+        columnarWindow.reload(windowStart);
+
+        // Act & Assert
+        assertEquals(canonical(inMemoryEngine.computeRewards(windowStart)),
+                canonical(columnarEngine.computeRewards(windowStart)));
+    }
+
+    @Test
+    @DisplayName("Should agree on point boundaries and months without points")
+    void testBoundaryAmounts() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        double[] amounts = {0.0, 49.99, 50.0, 50.01, 50.99, 99.99, 100.0, 100.01, 100.49, 100.5, 120.0, 250.75};
+        List<CustomerTranscation> transactions = new ArrayList<>();
+        for (int i = 0; i < amounts.length; i++) {
+            transactions.add(new CustomerTranscation(100 + i, amounts[i], today));
+        }
+        transactions.add(new CustomerTranscation(200, 10.0, windowStart));
+        transactions.add(new CustomerTranscation(200, 75.0, today));
+        transactions.add(new CustomerTranscation(300, 500.0, windowStart.minusDays(1)));
+        transactions.add(new CustomerTranscation(400, 80.0, today.plusDays(3)));
+        transactionsRepository.saveAll(transactions);
+
+        // Act
+        Map<Integer, String> expected = canonical(inMemoryEngine.computeRewards(windowStart));
+
+        // Assert
+        assertFalse(expected.containsKey(300), "transactions before the window must not count");
+        assertTrue(expected.containsKey(400), "future-dated transactions count");
+        assertEquals(expected, canonical(dbAggregateEngine.computeRewards(windowStart)));
+        assertEquals(expected, canonical(parallelEngine.computeRewards(windowStart)));
+        columnarWindow.reload(windowStart);
+        assertEquals(expected, canonical(columnarEngine.computeRewards(windowStart)));
+    }
+
+    @Test
+    @DisplayName("Should agree on sub-cent amounts, which are stored rounded to cents")
+    void testSubCentAmounts() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        transactionsRepository.saveAll(List.of(
+                new CustomerTranscation(1, 100.499, today),
+                new CustomerTranscation(2, 100.494, today),
+                new CustomerTranscation(3, 50.999, today)));
+        columnarWindow.reload(windowStart);
+
+        // Act
+        Map<Integer, String> expected = canonical(inMemoryEngine.computeRewards(windowStart));
+
+        // Assert
+        assertEquals(List.of(100.5, 100.49, 51.0), transactionsRepository.findAll().stream()
+                .sorted(Comparator.comparingInt(CustomerTranscation::getCustomerId))
+                .map(CustomerTranscation::getAmount).toList());
+        assertEquals(expected, canonical(dbAggregateEngine.computeRewards(windowStart)));
+        assertEquals(expected, canonical(parallelEngine.computeRewards(windowStart)));
+        assertEquals(expected, canonical(columnarEngine.computeRewards(windowStart)));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative amount in every engine")
+    void testNegativeAmount() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        transactionsRepository.saveAll(List.of(
+                new CustomerTranscation(1, 120.0, today),
+                new CustomerTranscation(2, -25.0, today)));
+        columnarWindow.reload(windowStart);
+
+        // Act & Assert
+        for (RewardEngine engine : List.of(inMemoryEngine, dbAggregateEngine, parallelEngine, columnarEngine)) {
+            DataProcessingException exception = assertThrows(DataProcessingException.class,
+                    () -> engine.computeRewards(windowStart), engine.name());
+            assertEquals("Negative transaction amount for customer 2", exception.getMessage(), engine.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return no rewards for an empty window")
+    void testEmptyWindow() {
+        // Act & Assert
+        assertTrue(inMemoryEngine.computeRewards(windowStart).isEmpty());
+        assertTrue(dbAggregateEngine.computeRewards(windowStart).isEmpty());
+        assertTrue(parallelEngine.computeRewards(windowStart).isEmpty());
+        columnarWindow.reload(windowStart);
+        assertTrue(columnarEngine.computeRewards(windowStart).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should append inserted transactions to the columnar window once committed")
+    void testColumnarWindowFollowsInserts() {
+        // Arrange
+        columnarWindow.reload(windowStart);
+        LocalDate today = LocalDate.now();
+
+        // Act
+        CustomerTranscation saved = transactionsRepository.save(new CustomerTranscation(7, 120.0, today));
+        transactionsRepository.save(saved);
+        transactionsRepository.saveAll(List.of(new CustomerTranscation(8, 60.0, today),
+                new CustomerTranscation(9, 500.0, windowStart.minusDays(1))));
+
+        // Assert: saving a row again publishes nothing, and rows before the window are not kept
+        assertEquals(2, columnarWindow.snapshot(windowStart).size());
+        assertEquals(canonical(inMemoryEngine.computeRewards(windowStart)),
+                canonical(columnarEngine.computeRewards(windowStart)));
+    }
+
+    @Test
+    @DisplayName("Should split the window into contiguous partitions")
+    void testPartitionStarts() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+
+        // Act
+        List<LocalDate> starts = ParallelPartitionedRewardEngine.partitionStarts(from, LocalDate.of(2024, 3, 31), 8);
+        List<LocalDate> singleDay = ParallelPartitionedRewardEngine.partitionStarts(from, from, 8);
+
+        // Assert
+        assertEquals(8, starts.size());
+        assertEquals(from, starts.get(0));
+        for (int i = 1; i < starts.size(); i++) {
+            assertTrue(starts.get(i).isAfter(starts.get(i - 1)));
+        }
+        assertEquals(List.of(from), singleDay);
+    }
+
+    private void seed(SplittableRandom random, int customers, int count) {
+        // From a month before the window to a few days ahead, in whole cents
+        LocalDate from = windowStart.minusMonths(1);
+        int days = (int) (LocalDate.now().toEpochDay() - from.toEpochDay()) + 4;
+        List<CustomerTranscation> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(new CustomerTranscation(1 + random.nextInt(customers),
+                    random.nextInt(30000) / 100.0, from.plusDays(random.nextInt(days))));
+        }
+        transactionsRepository.saveAll(transactions);
+    }
+
+    private static Map<Integer, String> canonical(List<RewardPoints> rewards) {
+        Map<Integer, String> canonical = new TreeMap<>();
+        for (RewardPoints reward : rewards) {
+            canonical.put(reward.getCustomerId(),
+                    new TreeMap<>(reward.getMonthlyRewards()) + " total=" + reward.getTotalRewardPoints());
+        }
+        return canonical;
+    }
+}
@@ -0,0 +1,171 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.entity.WindowStatistics;
+import com.rewardSystem.repository.TransactionsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardEnginePlanner Test Suite")
+class RewardEnginePlannerTest {
+
+    private static final LocalDate WINDOW_START = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private TransactionsRepository transactionsRepository;
+
+    @Mock
+    private RewardEngine inMemoryEngine;
+
+    @Mock
+    private RewardEngine dbAggregateEngine;
+
+    @Mock
+    private RewardEngine parallelEngine;
+
+    private RewardEnginePlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        when(inMemoryEngine.name()).thenReturn(InMemoryRewardEngine.NAME);
+        when(dbAggregateEngine.name()).thenReturn(DbAggregateRewardEngine.NAME);
+        when(parallelEngine.name()).thenReturn(ParallelPartitionedRewardEngine.NAME);
+
+        planner = new RewardEnginePlanner();
+        ReflectionTestUtils.setField(planner, "engineList", List.of(inMemoryEngine, dbAggregateEngine, parallelEngine));
+        ReflectionTestUtils.setField(planner, "transactionsRepository", transactionsRepository);
+        ReflectionTestUtils.setField(planner, "forcedEngine", "");
+        ReflectionTestUtils.setField(planner, "inMemoryMaxRows", 1000L);
+        ReflectionTestUtils.setField(planner, "aggregateMinRowsPerCustomer", 4.0);
+        ReflectionTestUtils.setField(planner, "statisticsTtlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("Should compute small windows in memory")
+    void testSmallWindowInMemory() {
+        // Arrange
+        planner.init();
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(1000, 1000));
+
+        // Act & Assert
+        assertSame(inMemoryEngine, planner.select(WINDOW_START));
+    }
+
+    @Test
+    @DisplayName("Should aggregate in the database when customers have many transactions each")
+    void testDenseWindowAggregated() {
+        // Arrange
+        planner.init();
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(50_000, 100));
+
+        // Act & Assert
+        assertSame(dbAggregateEngine, planner.select(WINDOW_START));
+    }
+
+    @Test
+    @DisplayName("Should scan in parallel when most customers have few transactions")
+    void testSparseWindowParallel() {
+        // Arrange
+        planner.init();
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(50_000, 40_000));
+
+        // Act & Assert
+        assertSame(parallelEngine, planner.select(WINDOW_START));
+    }
+
+    @Test
+    @DisplayName("Should reuse the window statistics until they expire")
+    void testStatisticsCached() {
+        // Arrange
+        planner.init();
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(10, 2));
+
+        // Act
+        planner.select(WINDOW_START);
+        planner.select(WINDOW_START);
+
+        // Assert
+        verify(transactionsRepository, times(1)).windowStatisticsSince(WINDOW_START);
+    }
+
+    @Test
+    @DisplayName("Should use the forced engine without reading statistics")
+    void testForcedEngine() {
+        // Arrange
+        ReflectionTestUtils.setField(planner, "forcedEngine", "parallel");
+        planner.init();
+
+        // Act & Assert
+        assertSame(parallelEngine, planner.select(WINDOW_START));
+        verify(transactionsRepository, never()).windowStatisticsSince(any());
+    }
+
+    @Test
+    @DisplayName("Should serve from the columnar window whenever it is loaded")
+    void testColumnarPreferredWhenLoaded() {
+        // Arrange
+        ColumnarRewardEngine columnarEngine = mock(ColumnarRewardEngine.class);
+        when(columnarEngine.name()).thenReturn(ColumnarRewardEngine.NAME);
+        ReflectionTestUtils.setField(planner, "engineList",
+                List.of(inMemoryEngine, dbAggregateEngine, parallelEngine, columnarEngine));
+        ReflectionTestUtils.setField(planner, "columnarEngine", columnarEngine);
+        planner.init();
+        when(columnarEngine.covers(WINDOW_START)).thenReturn(true, false);
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(50_000, 100));
+
+        // Act & Assert
+        assertSame(columnarEngine, planner.select(WINDOW_START));
+        assertSame(dbAggregateEngine, planner.select(WINDOW_START), "falls back while the window is not loaded");
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with an unknown forced engine")
+    void testUnknownForcedEngine() {
+        // Arrange
+        ReflectionTestUtils.setField(planner, "forcedEngine", "gpu");
+
+        // Act & Assert
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> planner.init());
+        assertTrue(e.getMessage().contains("db-aggregate"));
+    }
+
+    @Test
+    @DisplayName("Should time each run under the engine that served it")
+    void testEngineMetrics() {
+        // Arrange
+        planner.init();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        planner.bindTo(registry);
+        RewardPoints reward = new RewardPoints(1, new HashMap<>(), 10);
+        when(transactionsRepository.windowStatisticsSince(WINDOW_START)).thenReturn(new WindowStatistics(10, 2));
+        when(inMemoryEngine.computeRewards(WINDOW_START)).thenReturn(List.of(reward));
+
+        // Act
+        List<RewardPoints> rewards = planner.computeRewards(WINDOW_START);
+
+        // Assert
+        assertEquals(List.of(reward), rewards);
+        assertEquals(1, registry.get("rewards.engine.runs").tag("engine", "in-memory").timer().count());
+        assertEquals(0, registry.get("rewards.engine.runs").tag("engine", "db-aggregate").timer().count());
+        assertEquals(0, registry.get("rewards.engine.runs").tag("engine", "parallel").timer().count());
+    }
+}
@@ -2,6 +2,12 @@ package com.rewardSystem.service;
 
 import com.rewardSystem.entity.RewardPoints;
 import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import com.rewardSystem.entity.TransactionView;
+import com.rewardSystem.metrics.RewardPipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
 import com.rewardSystem.repository.TransactionsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +15,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,17 @@ class RewardServiceImplTest {
     @Mock
     private TransactionsRepository transactionsRepository;
 
+    @Mock
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RewardPipelineMetrics pipelineMetrics = new RewardPipelineMetrics(meterRegistry);
+
     @InjectMocks
     private RewardServiceImpl rewardService;
 
@@ -42,7 +62,7 @@ class RewardServiceImplTest {
     @DisplayName("Should return empty list when no transactions exist")
     void testFindAllRewardsEmptyTransactions() {
         // Arrange
-        when(transactionsRepository.findAll()).thenReturn(new ArrayList<>());
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(new ArrayList<>()));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -57,7 +77,7 @@ class RewardServiceImplTest {
     void testFindAllRewardsSingleCustomerSingleTransaction() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 120.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -75,7 +95,7 @@ class RewardServiceImplTest {
     void testRewardCalculationAmountGreaterThan100() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 150.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -90,7 +110,7 @@ class RewardServiceImplTest {
     void testRewardCalculationAmountBetween50And100() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 75.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -105,7 +125,7 @@ class RewardServiceImplTest {
     void testRewardCalculationAmountLessThanOrEqual50() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 50.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -122,7 +142,7 @@ class RewardServiceImplTest {
         testTransactions.add(new CustomerTranscation(1, 120.0, today));
         testTransactions.add(new CustomerTranscation(1, 80.0, today));
         testTransactions.add(new CustomerTranscation(1, 60.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -142,7 +162,7 @@ class RewardServiceImplTest {
         testTransactions.add(new CustomerTranscation(1, 120.0, today));
         testTransactions.add(new CustomerTranscation(2, 75.0, today));
         testTransactions.add(new CustomerTranscation(3, 200.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -184,7 +204,7 @@ class RewardServiceImplTest {
 
         testTransactions.add(new CustomerTranscation(1, 120.0, thisMonth));
         testTransactions.add(new CustomerTranscation(1, 75.0, lastMonth));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -213,7 +233,7 @@ class RewardServiceImplTest {
         testTransactions.add(new CustomerTranscation(1, 75.0, withinRange2));
         testTransactions.add(new CustomerTranscation(1, 60.0, withinRange3));
         testTransactions.add(new CustomerTranscation(1, 100.0, outOfRange)); // This should be excluded
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -233,7 +253,7 @@ class RewardServiceImplTest {
     void testDecimalAmountHandling() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 125.75, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -249,7 +269,7 @@ class RewardServiceImplTest {
     void testLargeAmountHandling() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 5000.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -270,7 +290,7 @@ class RewardServiceImplTest {
         testTransactions.add(new CustomerTranscation(1, 100.0, january));
         testTransactions.add(new CustomerTranscation(1, 100.0, january));
         testTransactions.add(new CustomerTranscation(1, 100.0, february));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -291,7 +311,7 @@ class RewardServiceImplTest {
     void testRewardResponseNotNull() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 100.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -310,7 +330,7 @@ class RewardServiceImplTest {
     void testBoundaryAmountOf51() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 51.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -325,7 +345,7 @@ class RewardServiceImplTest {
     void testBoundaryAmountOf100() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 100.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -340,7 +360,7 @@ class RewardServiceImplTest {
     void testBoundaryAmountOf101() {
         // Arrange
         testTransactions.add(new CustomerTranscation(1, 101.0, today));
-        when(transactionsRepository.findAll()).thenReturn(testTransactions);
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
 
         // Act
         List<RewardPoints> rewards = rewardService.findAllRewards();
@@ -349,5 +369,85 @@ class RewardServiceImplTest {
         assertEquals(1, rewards.size());
         assertEquals(52, rewards.get(0).getTotalRewardPoints()); // (100-50)*1 + (101-100)*2 = 50 + 2 = 52
     }
-}
 
+    @Test
+    @DisplayName("Should combine raw transactions with compacted summaries for a historical period")
+    void testFindRewardsForPeriodMergesSummaries() {
+        // Arrange
+        YearMonth from = YearMonth.of(2024, 1);
+        YearMonth to = YearMonth.of(2024, 3);
+        testTransactions.add(new CustomerTranscation(1, 120.0, LocalDate.of(2024, 3, 5)));
+        MonthlyRewardSummary january = new MonthlyRewardSummary(1, "2024-01");
+        january.add(200.0, 250);
+        MonthlyRewardSummary february = new MonthlyRewardSummary(2, "2024-02");
+        february.add(75.0, 25);
+        when(transactionsRepository.findViewsBetween(from.atDay(1), to.atEndOfMonth())).thenReturn(views(testTransactions));
+        when(summaryRepository.findByYearMonthBetween("2024-01", "2024-03")).thenReturn(List.of(january, february));
+
+        // Act
+        List<RewardPoints> rewards = rewardService.findRewardsForPeriod(from, to);
+
+        // Assert
+        assertEquals(2, rewards.size());
+        RewardPoints customer1 = rewards.get(0);
+        assertEquals(1, customer1.getCustomerId());
+        assertEquals(340, customer1.getTotalRewardPoints());
+        assertEquals(250, customer1.getMonthlyRewards().get("2024-01"));
+        assertEquals(90, customer1.getMonthlyRewards().get("2024-03"));
+        assertEquals(25, rewards.get(1).getTotalRewardPoints());
+    }
+
+    @Test
+    @DisplayName("Should keep the same month of different years apart in a historical period")
+    void testFindRewardsForPeriodSeparatesYears() {
+        // Arrange
+        YearMonth from = YearMonth.of(2023, 3);
+        YearMonth to = YearMonth.of(2024, 3);
+        testTransactions.add(new CustomerTranscation(1, 120.0, LocalDate.of(2024, 3, 5)));
+        MonthlyRewardSummary march2023 = new MonthlyRewardSummary(1, "2023-03");
+        march2023.add(200.0, 250);
+        when(transactionsRepository.findViewsBetween(from.atDay(1), to.atEndOfMonth())).thenReturn(views(testTransactions));
+        when(summaryRepository.findByYearMonthBetween("2023-03", "2024-03")).thenReturn(List.of(march2023));
+
+        // Act
+        List<RewardPoints> rewards = rewardService.findRewardsForPeriod(from, to);
+
+        // Assert
+        Map<String, Integer> monthly = rewards.get(0).getMonthlyRewards();
+        assertEquals(2, monthly.size());
+        assertEquals(250, monthly.get("2023-03"));
+        assertEquals(90, monthly.get("2024-03"));
+        assertEquals(340, rewards.get(0).getTotalRewardPoints());
+    }
+
+    @Test
+    @DisplayName("Should reject a historical period that ends before it starts")
+    void testFindRewardsForPeriodRejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> rewardService.findRewardsForPeriod(YearMonth.of(2024, 3), YearMonth.of(2024, 1)));
+    }
+
+    @Test
+    @DisplayName("Should record pipeline phase timings and run gauges")
+    void testRecordsPipelineMetrics() {
+        // Arrange
+        testTransactions.add(new CustomerTranscation(1, 120.0, today));
+        testTransactions.add(new CustomerTranscation(2, 75.0, today));
+        testTransactions.add(new CustomerTranscation(2, 80.0, today.minusYears(1)));
+        when(transactionsRepository.findViewsSince(any(LocalDate.class))).thenReturn(views(testTransactions));
+
+        // Act
+        rewardService.findAllRewards();
+
+        // Assert
+        for (String phase : List.of("fetch", "filter", "group", "compute")) {
+            assertEquals(1, meterRegistry.get("rewards.pipeline.phase").tag("phase", phase).timer().count());
+        }
+        assertEquals(3, meterRegistry.get("rewards.pipeline.rows.scanned").gauge().value());
+        assertEquals(2, meterRegistry.get("rewards.pipeline.customers.produced").gauge().value());
+    }
+
+    private static List<TransactionView> views(List<CustomerTranscation> transactions) {
+        return transactions.stream().map(TransactionView::of).toList();
+    }
+}
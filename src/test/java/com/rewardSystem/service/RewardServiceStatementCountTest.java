@@ -0,0 +1,118 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.Customer;
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import com.rewardSystem.entity.RewardPoints;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
+import com.rewardSystem.repository.TransactionsRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Customer names must come from one lookup per rewards run, so the number of SQL statements may not
+ * depend on how many customers the run covers.
+ */
+@DataJpaTest
+@Import(RewardServiceImpl.class)
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("RewardServiceImpl Statement Count Test Suite")
+class RewardServiceStatementCountTest {
+
+    @Autowired
+    private RewardServiceImpl rewardService;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest(name = "{0} customers")
+    @ValueSource(ints = {3, 40})
+    @DisplayName("Should resolve all customer names for the current window in a fixed number of statements")
+    void testFindAllRewardsStatementCount(int customers) {
+        // Arrange
+        seed(customers, LocalDate.now());
+
+        // Act
+        statistics.clear();
+        List<RewardPoints> rewards = rewardService.findAllRewards();
+        long statements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(customers, rewards.size());
+        assertTrue(rewards.stream().allMatch(r -> ("Customer " + r.getCustomerId()).equals(r.getCustomerName())));
+        assertEquals(2, statements);
+    }
+
+    @ParameterizedTest(name = "{0} customers")
+    @ValueSource(ints = {3, 40})
+    @DisplayName("Should resolve customer names for a history period in a fixed number of statements")
+    void testFindRewardsForPeriodStatementCount(int customers) {
+        // Arrange
+        YearMonth month = YearMonth.now().minusYears(2);
+        int[] ids = seed(customers, month.atDay(10));
+        MonthlyRewardSummary summary = new MonthlyRewardSummary(ids[0], month.minusMonths(1).toString());
+        summary.setTotalAmount(120.0);
+        summary.setPoints(90);
+        summary.setCount(1);
+        summaryRepository.save(summary);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        statistics.clear();
+        List<RewardPoints> rewards = rewardService.findRewardsForPeriod(month.minusMonths(1), month);
+        long statements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(customers, rewards.size());
+        assertTrue(rewards.stream().allMatch(r -> r.getCustomerName() != null));
+        assertEquals(3, statements);
+    }
+
+    private int[] seed(int customers, LocalDate date) {
+        int[] ids = new int[customers];
+        for (int i = 0; i < customers; i++) {
+            Customer customer = customerRepository.save(new Customer(0, null));
+            customer.setCustomerName("Customer " + customer.getCustomerId());
+            ids[i] = customer.getCustomerId();
+            transactionsRepository.save(new CustomerTranscation(ids[i], 120.0, date));
+            transactionsRepository.save(new CustomerTranscation(ids[i], 60.0, date));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,83 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.dto.StartupStepTiming;
+import com.rewardSystem.dto.StartupTimelineResponse;
+import com.rewardSystem.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupTimelineService Test Suite")
+class StartupTimelineServiceTest {
+
+    private BufferingApplicationStartup applicationStartup;
+    private StartupTimelineService service;
+
+    @BeforeEach
+    void setUp() {
+        applicationStartup = new BufferingApplicationStartup(100);
+        service = new StartupTimelineService();
+        ReflectionTestUtils.setField(service, "applicationStartup", applicationStartup);
+    }
+
+    @Test
+    @DisplayName("Should list recorded steps longest first with their tags and parents")
+    void testSortsByDuration() throws InterruptedException {
+        // Arrange
+        StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        StartupStep fast = applicationStartup.start("spring.beans.instantiate").tag("beanName", "fast");
+        fast.end();
+        StartupStep slow = applicationStartup.start("spring.beans.instantiate").tag("beanName", "slow");
+        Thread.sleep(20);
+        slow.end();
+        refresh.end();
+
+        // Act
+        StartupTimelineResponse response = service.slowestSteps(10);
+
+        // Assert
+        assertEquals(3, response.getRecordedSteps());
+        assertNotNull(response.getStartTime());
+        List<StartupStepTiming> steps = response.getSteps();
+        assertEquals("spring.context.refresh", steps.get(0).getName());
+        assertEquals("slow", steps.get(1).getTags().get("beanName"));
+        assertEquals("fast", steps.get(2).getTags().get("beanName"));
+        assertEquals(refresh.getId(), steps.get(1).getParentId());
+        assertTrue(steps.get(1).getDurationMs() >= 20);
+        assertTrue(steps.get(0).getDurationMs() >= steps.get(1).getDurationMs());
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of steps")
+    void testLimit() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            applicationStartup.start("step").end();
+        }
+
+        // Act
+        StartupTimelineResponse response = service.slowestSteps(2);
+
+        // Assert
+        assertEquals(5, response.getRecordedSteps());
+        assertEquals(2, response.getSteps().size());
+    }
+
+    @Test
+    @DisplayName("Should report a missing timeline when startup was not buffered")
+    void testNotRecorded() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "applicationStartup", ApplicationStartup.DEFAULT);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> service.slowestSteps(10));
+    }
+}
@@ -0,0 +1,105 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.WindowChecksum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransactionColumns Test Suite")
+class TransactionColumnsTest {
+
+    @Test
+    @DisplayName("Should store rows column by column and track their bounds")
+    void testAppend() {
+        // Arrange
+        TransactionColumns columns = new TransactionColumns(4, 100);
+
+        // Act
+        assertTrue(columns.append(7, 12_050, 101));
+        assertTrue(columns.append(3, 7_500, 105));
+
+        // Assert
+        assertEquals(2, columns.size());
+        assertEquals(7, columns.customerId(0));
+        assertEquals(12_050, columns.amountCents(0));
+        assertEquals(105, columns.epochDay(1));
+        assertEquals(105, columns.maxDay());
+        assertEquals(3, columns.minCustomerId());
+        assertEquals(7, columns.maxCustomerId());
+        assertEquals(4L * 16, columns.offHeapBytes());
+    }
+
+    @Test
+    @DisplayName("Should ignore rows before the first day and refuse rows when full")
+    void testBounds() {
+        // Arrange
+        TransactionColumns columns = new TransactionColumns(1, 100);
+
+        // Act & Assert
+        assertTrue(columns.append(1, 100, 99));
+        assertEquals(0, columns.size());
+        assertTrue(columns.append(1, 100, 100));
+        assertFalse(columns.append(2, 100, 100));
+        assertEquals(1, columns.size());
+    }
+
+    @Test
+    @DisplayName("Should copy into larger columns and drop days before the new first day")
+    void testCopy() {
+        // Arrange
+        TransactionColumns columns = new TransactionColumns(3, 100);
+        columns.append(1, 100, 100);
+        columns.append(2, 200, 110);
+        columns.append(3, 300, 120);
+
+        // Act
+        TransactionColumns grown = columns.copy(6, 100);
+        TransactionColumns compacted = columns.copy(2, 110);
+
+        // Assert
+        assertEquals(3, grown.size());
+        assertEquals(6, grown.capacity());
+        assertEquals(2, compacted.size());
+        assertEquals(2, compacted.customerId(0));
+        assertEquals(110, compacted.firstDay());
+        assertEquals(2, columns.countSince(110));
+        assertThrows(IllegalArgumentException.class, () -> columns.copy(1, 100));
+    }
+
+    @Test
+    @DisplayName("Should checksum the rows dated within a range of days")
+    void testChecksumBetween() {
+        // Arrange
+        TransactionColumns columns = new TransactionColumns(3, 100);
+        columns.append(1, 100, 100);
+        columns.append(2, 200, 110);
+        columns.append(3, 300, 120);
+
+        // Act & Assert
+        assertEquals(new WindowChecksum(3, 600, 6), columns.checksumBetween(100, Integer.MAX_VALUE));
+        assertEquals(new WindowChecksum(2, 500, 5), columns.checksumBetween(110, Integer.MAX_VALUE));
+        assertEquals(new WindowChecksum(1, 200, 2), columns.checksumBetween(101, 119));
+        assertEquals(new WindowChecksum(0, 0, 0), columns.checksumBetween(121, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should convert amounts to whole cents")
+    void testToCents() {
+        // Act & Assert
+        assertEquals(12_005, TransactionColumns.toCents(120.05));
+        assertEquals(10, TransactionColumns.toCents(0.1));
+        assertEquals(0, TransactionColumns.toCents(0.0));
+    }
+
+    @Test
+    @DisplayName("Should award the same points as the amount-based calculation for every cent")
+    void testPointsMatchCalculatePoints() {
+        // Act & Assert
+        for (long cents = 0; cents <= 30_000; cents++) {
+            double amount = cents / 100.0;
+            assertEquals(RewardServiceImpl.calculatePoints(amount), ColumnarRewardEngine.points(cents),
+                    "amount " + amount);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.entity.CustomerTranscation;
+import com.rewardSystem.entity.MonthlyRewardSummary;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
+import com.rewardSystem.repository.TransactionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@DataJpaTest
+@Import(TransactionRetentionService.class)
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "rewards.retention.delete-batch-size=2")
+@DisplayName("TransactionRetentionService Test Suite")
+class TransactionRetentionServiceTest {
+
+    @Autowired
+    private TransactionRetentionService retentionService;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @SpyBean
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    private LocalDate oldMonth;
+
+    @BeforeEach
+    void setUp() {
+        transactionsRepository.deleteAll();
+        summaryRepository.deleteAll();
+        oldMonth = LocalDate.now().minusYears(2).withDayOfMonth(1);
+    }
+
+    @Test
+    @DisplayName("Should fold old transactions into monthly summaries and delete raw rows")
+    void testCompactsOldTransactions() {
+        // Arrange
+        transactionsRepository.save(new CustomerTranscation(1, 120.0, oldMonth.plusDays(1)));
+        transactionsRepository.save(new CustomerTranscation(1, 75.0, oldMonth.plusDays(5)));
+        transactionsRepository.save(new CustomerTranscation(1, 60.0, oldMonth.plusDays(9)));
+        transactionsRepository.save(new CustomerTranscation(2, 200.0, oldMonth.plusDays(2)));
+        transactionsRepository.save(new CustomerTranscation(2, 120.0, LocalDate.now()));
+
+        // Act
+        long folded = retentionService.compactOlderThan(LocalDate.now().minusYears(1));
+
+        // Assert
+        assertEquals(4, folded);
+        assertEquals(1, transactionsRepository.count());
+
+        String key = YearMonth.from(oldMonth).toString();
+        List<MonthlyRewardSummary> summaries = summaryRepository.findByYearMonthBetween(key, key);
+        assertEquals(2, summaries.size());
+
+        MonthlyRewardSummary customer1 = summaries.stream()
+                .filter(s -> s.getCustomerId() == 1).findFirst().orElseThrow();
+        assertEquals(3, customer1.getCount());
+        assertEquals(255.0, customer1.getTotalAmount(), 0.001);
+        assertEquals(90 + 25 + 10, customer1.getPoints());
+    }
+
+    @Test
+    @DisplayName("Should merge late-arriving rows into an existing summary")
+    void testMergesIntoExistingSummary() {
+        // Arrange
+        transactionsRepository.save(new CustomerTranscation(1, 120.0, oldMonth));
+        retentionService.compactOlderThan(LocalDate.now().minusYears(1));
+        transactionsRepository.save(new CustomerTranscation(1, 75.0, oldMonth.plusDays(3)));
+
+        // Act
+        retentionService.compactOlderThan(LocalDate.now().minusYears(1));
+
+        // Assert
+        String key = YearMonth.from(oldMonth).toString();
+        List<MonthlyRewardSummary> summaries = summaryRepository.findByYearMonthBetween(key, key);
+        assertEquals(1, summaries.size());
+        assertEquals(2, summaries.get(0).getCount());
+        assertEquals(115, summaries.get(0).getPoints());
+    }
+
+    @Test
+    @DisplayName("Should keep a chunk's raw rows when its summaries do not add up")
+    void testKeepsRowsWhenVerificationFails() {
+        // Arrange: the summaries never appear to grow
+        transactionsRepository.save(new CustomerTranscation(1, 120.0, oldMonth));
+        transactionsRepository.save(new CustomerTranscation(2, 75.0, oldMonth.plusDays(1)));
+        doReturn(0L).when(summaryRepository).sumCountForCustomers(anyString(), any());
+
+        // Act & Assert
+        assertThrows(DataProcessingException.class,
+                () -> retentionService.compactOlderThan(LocalDate.now().minusYears(1)));
+        assertEquals(2, transactionsRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should return zero when nothing is older than the horizon")
+    void testNothingToCompact() {
+        // Arrange
+        transactionsRepository.save(new CustomerTranscation(1, 120.0, LocalDate.now()));
+
+        // Act
+        long folded = retentionService.compactOlderThan(LocalDate.now().minusYears(1));
+
+        // Assert
+        assertEquals(0, folded);
+        assertEquals(1, transactionsRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should reject a horizon inside the active reward window")
+    void testRejectsHorizonInsideRewardWindow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> retentionService.compactOlderThan(LocalDate.now()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.rewardSystem.service;
+
+import com.rewardSystem.dto.BulkProvisioningResponse;
+import com.rewardSystem.dto.BulkUserResult;
+import com.rewardSystem.dto.RegisterRequest;
+import com.rewardSystem.entity.User;
+import com.rewardSystem.exception.DataProcessingException;
+import com.rewardSystem.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({UserAdminService.class, UserAdminServiceTest.Config.class})
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = {"security.bulk-provisioning.batch-size=3", "security.bulk-provisioning.hash-threads=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UserAdminService Test Suite")
+class UserAdminServiceTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create every valid user with a hashed password")
+    void testProvisionsUsers() {
+        // Arrange
+        List<RegisterRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            requests.add(request("user" + i, "user" + i + "@example.com"));
+        }
+        requests.get(2).setRole("ROLE_MANAGER");
+
+        // Act
+        BulkProvisioningResponse response = userAdminService.provisionUsers(requests);
+
+        // Assert
+        assertEquals(7, response.getCreated());
+        assertEquals(0, response.getRejected());
+        assertEquals(7, userRepository.count());
+        User user = userRepository.findByUsername("user2").orElseThrow();
+        assertEquals(User.UserRole.ROLE_MANAGER, user.getRole());
+        assertEquals(0L, user.getTokenVersion());
+        assertNotNull(user.getCreatedAt());
+        assertTrue(passwordEncoder.matches("secret1", user.getPassword()));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid and duplicate rows individually")
+    void testReportsPerRowResults() {
+        // Arrange
+        userRepository.save(existing("taken", "taken@example.com"));
+        RegisterRequest invalid = request("ab", "ab@example.com");
+        RegisterRequest badRole = request("badrole", "badrole@example.com");
+        badRole.setRole("ROLE_ROOT");
+        List<RegisterRequest> requests = List.of(
+                request("alice", "alice@example.com"),
+                request("taken", "other@example.com"),
+                request("bob", "taken@example.com"),
+                invalid,
+                badRole,
+                request("alice", "alice2@example.com"),
+                request("carol", "carol@example.com"));
+
+        // Act
+        BulkProvisioningResponse response = userAdminService.provisionUsers(requests);
+
+        // Assert
+        List<BulkUserResult> results = response.getResults();
+        assertEquals(2, response.getCreated());
+        assertEquals(5, response.getRejected());
+        assertEquals(BulkUserResult.CREATED, results.get(0).getStatus());
+        assertEquals("Username already exists", results.get(1).getMessage());
+        assertEquals("Email already exists", results.get(2).getMessage());
+        assertEquals("Username must be at least 3 characters", results.get(3).getMessage());
+        assertEquals("Invalid role: ROLE_ROOT", results.get(4).getMessage());
+        assertEquals("Username already exists", results.get(5).getMessage());
+        assertEquals(BulkUserResult.CREATED, results.get(6).getStatus());
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty request")
+    void testRejectsEmptyRequest() {
+        // Act & Assert
+        assertThrows(DataProcessingException.class, () -> userAdminService.provisionUsers(List.of()));
+    }
+
+    @Test
+    @DisplayName("Should map named unique constraint violations to registration messages")
+    void testMapsConstraintViolations() {
+        // Arrange
+        userRepository.save(existing("dave", "dave@example.com"));
+
+        // Act
+        DataIntegrityViolationException username = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.save(existing("dave", "dave2@example.com")));
+        DataIntegrityViolationException email = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.save(existing("dave2", "dave@example.com")));
+
+        // Assert
+        assertEquals("Username already exists", UserConstraintViolations.duplicateMessage(username));
+        assertEquals("Email already exists", UserConstraintViolations.duplicateMessage(email));
+    }
+
+    @Test
+    @DisplayName("Should map violations of the constraint names Hibernate generated")
+    void testMapsGeneratedConstraintNames() {
+        // Arrange: as MySQL reports them on a schema created by ddl-auto
+        DataIntegrityViolationException username = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry 'dave' for key 'users.UK_r43af9ap4edm43mmtq01oddj6'"));
+        DataIntegrityViolationException email = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry 'dave@example.com' for key 'users.UK_6dotkott2kjsp8vw4d0m25fb7'"));
+        DataIntegrityViolationException other = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Column 'password' cannot be null"));
+
+        // Act & Assert
+        assertEquals("Username already exists", UserConstraintViolations.duplicateMessage(username));
+        assertEquals("Email already exists", UserConstraintViolations.duplicateMessage(email));
+        assertNull(UserConstraintViolations.duplicateMessage(other));
+    }
+
+    private static RegisterRequest request(String username, String email) {
+        return new RegisterRequest(username, email, "secret1", "secret1", null);
+    }
+
+    private static User existing(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(User.UserRole.ROLE_USER);
+        return user;
+    }
+}
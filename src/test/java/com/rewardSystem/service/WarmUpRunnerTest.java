@@ -0,0 +1,170 @@
+package com.rewardSystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardSystem.repository.CustomerRepository;
+import com.rewardSystem.repository.MonthlyRewardSummaryRepository;
+import com.rewardSystem.repository.TransactionsRepository;
+import com.rewardSystem.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmUpRunner Test Suite")
+class WarmUpRunnerTest {
+
+    @Mock
+    private TransactionsRepository transactionsRepository;
+
+    @Mock
+    private MonthlyRewardSummaryRepository summaryRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private RewardServiceImpl rewardService;
+
+    private WarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "testSecretKeyForJwtTokenProviderThatIsLongEnoughForHs512Signatures0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 0L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+
+        runner = new WarmUpRunner();
+        ReflectionTestUtils.setField(runner, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(runner, "jwtTokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(runner, "enabled", true);
+        ReflectionTestUtils.setField(runner, "customers", 10);
+        ReflectionTestUtils.setField(runner, "transactions", 200);
+        ReflectionTestUtils.setField(runner, "roundIterations", 5);
+        ReflectionTestUtils.setField(runner, "minIterations", 0);
+        ReflectionTestUtils.setField(runner, "stableRounds", 3);
+        ReflectionTestUtils.setField(runner, "tolerance", 0.5);
+        ReflectionTestUtils.setField(runner, "maxDurationMs", 10_000L);
+    }
+
+    @Test
+    @DisplayName("Should warm up on synthetic data without touching the repositories")
+    void testWarmUpUsesNoRepositories() {
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(runner.getRounds() >= 4, "needs a baseline round plus three stable ones");
+        verifyNoInteractions(transactionsRepository, summaryRepository, customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should stop once latency has stabilized")
+    void testStopsWhenStable() {
+        // Arrange: any two rounds are within tolerance
+        ReflectionTestUtils.setField(runner, "tolerance", 1000.0);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(runner.isStabilized());
+        assertEquals(4, runner.getRounds());
+    }
+
+    @Test
+    @DisplayName("Should keep going until the minimum number of iterations has run")
+    void testRunsMinimumIterations() {
+        // Arrange
+        ReflectionTestUtils.setField(runner, "tolerance", 1000.0);
+        ReflectionTestUtils.setField(runner, "minIterations", 50);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(runner.isStabilized());
+        assertEquals(10, runner.getRounds());
+    }
+
+    @Test
+    @DisplayName("Should give up at the time limit when latency never stabilizes")
+    void testStopsAtTimeLimit() {
+        // Arrange: no two rounds are ever within tolerance
+        ReflectionTestUtils.setField(runner, "tolerance", -1.0);
+        ReflectionTestUtils.setField(runner, "maxDurationMs", 300L);
+
+        // Act
+        long started = System.nanoTime();
+        runner.run(new DefaultApplicationArguments());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Assert
+        assertFalse(runner.isStabilized());
+        assertTrue(runner.getRounds() > 0);
+        assertTrue(elapsedMs < 5_000, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Should skip the warm-up when disabled")
+    void testDisabled() {
+        // Arrange
+        ReflectionTestUtils.setField(runner, "enabled", false);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(0, runner.getRounds());
+    }
+
+    @Test
+    @DisplayName("Should not fail startup when token signing is misconfigured")
+    void testSurvivesTokenFailure() {
+        // Arrange: too short for HS512
+        JwtTokenProvider weakProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(weakProvider, "jwtSecret", "short-secret-that-is-only-256-bits-long");
+        ReflectionTestUtils.setField(weakProvider, "verifiedCacheMaxSize", 0L);
+        ReflectionTestUtils.setField(weakProvider, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(weakProvider, "init");
+        ReflectionTestUtils.setField(runner, "jwtTokenProvider", weakProvider);
+        ReflectionTestUtils.setField(runner, "tolerance", 1000.0);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(runner.isStabilized());
+    }
+
+    @Test
+    @DisplayName("Should publish the warm-up duration")
+    void testPublishesDuration() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        runner.bindTo(registry);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(runner.getDurationMs(),
+                registry.get("warmup.duration").timeGauge().value(TimeUnit.MILLISECONDS), 1.0);
+        assertEquals(runner.getRounds(), registry.get("warmup.rounds").gauge().value());
+    }
+}